@@ -209,4 +209,40 @@ public abstract class AbstractObjectAssert<S extends AbstractObjectAssert<S, A>,
 	objects.assertIsEqualToIgnoringGivenFields(info, actual, other);
 	return myself;
   }
+
+  /**
+   * Assert that the actual object is equal to the given object based on a recursive field by field comparison: unlike
+   * {@link #isEqualToComparingFieldByField(Object)}, fields whose class does not override <code>equals</code> are
+   * themselves compared field by field.
+   * <p/>
+   * Arrays and lists are compared element by element, other collections regardless of the order of their elements and
+   * maps by key. Values whose class overrides <code>equals</code> (or a JDK class) are compared with
+   * <code>equals</code>. As in {@link #isEqualToComparingFieldByField(Object)}, only <b>accessible</b> fields values
+   * are compared. Object graphs can be cyclic, each pair of objects is only compared once.
+   * <p/>
+   * The error message reports the path of each difference, e.g. <code>race.name</code> or <code>friends[1].age</code>.
+   * 
+   * <pre><code class='java'>
+   * Example:
+   * 
+   * TolkienCharacter frodo = new TolkienCharacter("Frodo", 33, new Race("Hobbit"));
+   * TolkienCharacter frodoClone = new TolkienCharacter("Frodo", 33, new Race("Hobbit"));
+   * 
+   * // Fail if equals has not been overriden in Race as races are compared with equals
+   * assertThat(frodo).isEqualToComparingFieldByField(frodoClone);
+   * 
+   * // frodo and frodoClone are equals when races are compared field by field too.
+   * assertThat(frodo).isEqualToComparingFieldByFieldRecursively(frodoClone);
+   * 
+   * </code></pre>
+   * 
+   * @param other the object to compare {@code actual} to.
+   * @throws AssertionError if the actual object is {@code null}.
+   * @throws AssertionError if the actual and the given object are not equals field by field recursively.
+   * @throws AssertionError if the other object is not an instance of the actual type.
+   */
+  public S isEqualToComparingFieldByFieldRecursively(A other) {
+	objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other);
+	return myself;
+  }
 }
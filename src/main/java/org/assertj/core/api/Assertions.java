@@ -35,6 +35,8 @@ import org.assertj.core.data.MapEntry;
 import org.assertj.core.data.Offset;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.presentation.TypeFormatter;
 import org.assertj.core.util.Files;
 import org.assertj.core.util.FilesException;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -532,6 +534,17 @@ public class Assertions {
     Fail.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Only delegate to {@link Fail#setSkipStackTraceOfCollectedFailures(boolean)} so that Assertions offers a full
+   * feature entry point to all AssertJ Assert features (but you can use {@link Fail} if you prefer).
+   * <p>
+   * Skipping the stack trace of collected failures gives up the location of the failed soft assertions, see
+   * {@link Fail#setSkipStackTraceOfCollectedFailures(boolean)}.
+   */
+  public static void setSkipStackTraceOfCollectedFailures(boolean skipStackTraceOfCollectedFailures) {
+    Fail.setSkipStackTraceOfCollectedFailures(skipStackTraceOfCollectedFailures);
+  }
+
   /**
    * Only delegate to {@link Fail#fail(String)} so that Assertions offers a full feature entry point to all Assertj
    * Assert features (but you can use Fail if you prefer).
@@ -636,6 +649,47 @@ public class Assertions {
     FieldSupport.setAllowExtractingPrivateFields(allowExtractingPrivateFields);
   }
 
+  /**
+   * Only delegate to {@link StandardRepresentation#setMaxElementsForPrinting(int)} so that Assertions offers a full
+   * feature entry point to all AssertJ Assert features (but you can use {@link StandardRepresentation} if you prefer).
+   */
+  public static void setMaxElementsForPrinting(int maxElementsForPrinting) {
+    StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
+  }
+
+  /**
+   * Only delegate to {@link StandardRepresentation#setMaxDepthForPrinting(int)} so that Assertions offers a full
+   * feature entry point to all AssertJ Assert features (but you can use {@link StandardRepresentation} if you prefer).
+   */
+  public static void setMaxDepthForPrinting(int maxDepthForPrinting) {
+    StandardRepresentation.setMaxDepthForPrinting(maxDepthForPrinting);
+  }
+
+  /**
+   * Only delegate to {@link StandardRepresentation#setMaxLengthForPrinting(int)} so that Assertions offers a full
+   * feature entry point to all AssertJ Assert features (but you can use {@link StandardRepresentation} if you prefer).
+   */
+  public static void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    StandardRepresentation.setMaxLengthForPrinting(maxLengthForPrinting);
+  }
+
+  /**
+   * Only delegate to {@link StandardRepresentation#registerFormatter(Class, TypeFormatter)} so that Assertions offers a
+   * full feature entry point to all AssertJ Assert features (but you can use {@link StandardRepresentation} if you
+   * prefer).
+   */
+  public static <T> void registerFormatter(Class<T> type, TypeFormatter<? super T> formatter) {
+    StandardRepresentation.registerFormatter(type, formatter);
+  }
+
+  /**
+   * Only delegate to {@link StandardRepresentation#removeFormatter(Class)} so that Assertions offers a full feature
+   * entry point to all AssertJ Assert features (but you can use {@link StandardRepresentation} if you prefer).
+   */
+  public static void removeFormatter(Class<?> type) {
+    StandardRepresentation.removeFormatter(type);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // Data utility methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
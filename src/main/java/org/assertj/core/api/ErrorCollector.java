@@ -8,17 +8,25 @@ import java.util.List;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
+import org.assertj.core.internal.Failures;
+
 /** Collects error messages of all AssertionErrors thrown by the proxied method. */
 public class ErrorCollector implements MethodInterceptor {
 
   private final List<Throwable> errors = new ArrayList<Throwable>();
+  private final Failures failures = Failures.instance();
 
   @Override
   public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+    boolean wasCollecting = failures.setCollectingFailures(true);
     try {
       proxy.invokeSuper(obj, args);
     } catch (AssertionError e) {
+      // creates the message now, it may otherwise only be created when read, once the reported values have changed.
+      e.getMessage();
       errors.add(e);
+    } finally {
+      failures.setCollectingFailures(wasCollecting);
     }
     return obj;
   }
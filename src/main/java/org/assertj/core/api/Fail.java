@@ -36,6 +36,20 @@ public final class Fail {
     Failures.instance().setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets whether failures collected by soft assertions are created without stack trace, which makes collecting many
+   * failures cheaper but gives up the location of the failed assertions.
+   * <p>
+   * {@link JUnitSoftAssertions} fills in the stack trace of the failures when it reports them at the end of the test:
+   * once AssertJ elements are removed, it only holds the elements of the test runner, not the line of the failed
+   * assertion nor any element of the test method. {@link SoftAssertions#assertAll()} keeps the failures without stack
+   * trace. Failure messages are then the only way to tell which assertions failed.
+   * @param skipStackTraceOfCollectedFailures flag.
+   */
+  public static void setSkipStackTraceOfCollectedFailures(boolean skipStackTraceOfCollectedFailures) {
+    Failures.instance().setSkipStackTraceOfCollectedFailures(skipStackTraceOfCollectedFailures);
+  }
+
   /**
    * Fails with the given message.
    * @param failureMessage error message.
@@ -1,5 +1,8 @@
 package org.assertj.core.api;
 
+import java.util.List;
+
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.VisibleForTesting;
 import org.junit.rules.TestRule;
 import org.junit.runner.Description;
@@ -34,7 +37,11 @@ public class JUnitSoftAssertions extends AbstractSoftAssertions implements TestR
 	  @Override
 	  public void evaluate() throws Throwable {
 		base.evaluate();
-		MultipleFailureException.assertEmpty(collector.errors());
+		List<Throwable> errors = collector.errors();
+		for (Throwable error : errors) {
+		  Failures.instance().fillInStackTraceIfSkipped(error);
+		}
+		MultipleFailureException.assertEmpty(errors);
 	  }
 	};
   }
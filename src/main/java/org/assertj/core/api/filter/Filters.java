@@ -16,6 +16,7 @@ package org.assertj.core.api.filter;
 
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Objects.areEqual;
+import static org.assertj.core.util.introspection.PropertyPath.compile;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -25,6 +26,7 @@ import org.assertj.core.api.Condition;
 import org.assertj.core.internal.PropertySupport;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.IntrospectionError;
+import org.assertj.core.util.introspection.PropertyPath;
 
 
 /**
@@ -303,11 +305,12 @@ public class Filters<E> {
    */
   public Filters<E> equalsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
+    PropertyPath propertyPathToFilterOn = compile(propertyNameToFilterOn);
     List<E> newFilteredIterable = new ArrayList<E>();
     for (E element : filteredIterable) {
       // As we don't know the propertyValue class, we use Object.class
       Class<?> propertyValueClass = propertyValue == null ? Object.class : propertyValue.getClass();
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValueClass, element);
+      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyPathToFilterOn, propertyValueClass, element);
       if (areEqual(propertyValueOfCurrentElement, propertyValue)) {
         newFilteredIterable.add(element);
       }
@@ -332,9 +335,10 @@ public class Filters<E> {
    */
   public Filters<E> notEqualsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
+    PropertyPath propertyPathToFilterOn = compile(propertyNameToFilterOn);
     List<E> newFilteredIterable = new ArrayList<E>();
     for (E element : filteredIterable) {
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValue.getClass(),
+      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyPathToFilterOn, propertyValue.getClass(),
           element);
       if (!areEqual(propertyValueOfCurrentElement, propertyValue)) {
         newFilteredIterable.add(element);
@@ -365,9 +369,10 @@ public class Filters<E> {
    */
   public Filters<E> in(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
+    PropertyPath propertyPathToFilterOn = compile(propertyNameToFilterOn);
     List<E> newFilteredIterable = new ArrayList<E>();
     for (E element : filteredIterable) {
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValues.getClass()
+      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyPathToFilterOn, propertyValues.getClass()
           .getComponentType(), element);
       if (isItemInArray(propertyValueOfCurrentElement, propertyValues)) {
         newFilteredIterable.add(element);
@@ -393,9 +398,10 @@ public class Filters<E> {
    */
   public Filters<E> notIn(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
+    PropertyPath propertyPathToFilterOn = compile(propertyNameToFilterOn);
     List<E> newFilteredIterable = new ArrayList<E>();
     for (E element : filteredIterable) {
-      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyNameToFilterOn, propertyValues.getClass()
+      Object propertyValueOfCurrentElement = propertySupport.propertyValueOf(propertyPathToFilterOn, propertyValues.getClass()
           .getComponentType(), element);
       if (!isItemInArray(propertyValueOfCurrentElement, propertyValues)) {
         newFilteredIterable.add(element);
@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.lang.reflect.Constructor;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Creates the comparison failures of the test framework in the classpath (like JUnit's
+ * {@code org.junit.ComparisonFailure}) that IDEs display as a diff of the expected and actual values.
+ * <p>
+ * The constructor of the failure type is looked up once, when the type is registered or, for JUnit's one, when the
+ * first failure is created: it is then reused for every failure, as is the fact that JUnit is not in the classpath.
+ */
+public class ComparisonFailureFactory {
+
+  private static final ComparisonFailureFactory INSTANCE = new ComparisonFailureFactory();
+
+  private static final String JUNIT_COMPARISON_FAILURE = "org.junit.ComparisonFailure";
+  private static final Class<?>[] PARAMETER_TYPES = { String.class, String.class, String.class };
+
+  /**
+   * Returns the singleton instance of this class.
+   * @return the singleton instance of this class.
+   */
+  public static ComparisonFailureFactory instance() {
+    return INSTANCE;
+  }
+
+  // null until a failure type is registered or JUnit's one is looked up
+  private volatile Lookup lookup;
+
+  @VisibleForTesting
+  ComparisonFailureFactory() {}
+
+  /**
+   * Registers a comparison failure type, used instead of the type registered before or of JUnit's one.
+   * <p>
+   * The type must have a public constructor taking the message, the expected value and the actual value
+   * representations as {@code String}s, looked up once by this method. The type can be loaded by any class loader,
+   * e.g. the one of the tests when AssertJ is loaded by a parent class loader.
+   * @param failureType the comparison failure type.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws IllegalArgumentException if the given type has no such constructor.
+   */
+  public synchronized void register(Class<? extends AssertionError> failureType) {
+    checkNotNull(failureType);
+    try {
+      Constructor<?> constructor = failureType.getConstructor(PARAMETER_TYPES);
+      setAccessible(constructor);
+      lookup = new Lookup(constructor);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(format("%s has no public constructor taking the message, the expected and "
+                                                + "the actual values as Strings", failureType.getName()), e);
+    }
+  }
+
+  /**
+   * Creates a comparison failure of the registered type, or of JUnit's one if none has been registered.
+   * @param message the message of the failure.
+   * @param expected the representation of the expected value.
+   * @param actual the representation of the actual value.
+   * @return the created failure, or {@code null} if no type has been registered and JUnit is not in the classpath.
+   * @throws Exception if the failure could not be created.
+   */
+  AssertionError newComparisonFailure(String message, String expected, String actual) throws Exception {
+    Constructor<?> constructor = lookup().constructor;
+    return constructor == null ? null : (AssertionError) constructor.newInstance(message, expected, actual);
+  }
+
+  private Lookup lookup() {
+    Lookup lookup = this.lookup;
+    if (lookup != null) return lookup;
+    synchronized (this) {
+      if (this.lookup == null) this.lookup = new Lookup(lookUpJUnitConstructor());
+      return this.lookup;
+    }
+  }
+
+  @VisibleForTesting
+  Constructor<?> lookUpJUnitConstructor() {
+    try {
+      Constructor<?> constructor = Class.forName(JUNIT_COMPARISON_FAILURE).getConstructor(PARAMETER_TYPES);
+      setAccessible(constructor);
+      return constructor;
+    } catch (ClassNotFoundException e) {
+      // JUnit is not in the classpath
+      return null;
+    } catch (NoSuchMethodException e) {
+      // not the expected JUnit version
+      return null;
+    }
+  }
+
+  private static void setAccessible(final Constructor<?> constructor) {
+    // the constructor is public but its class may not be
+    try {
+      AccessController.doPrivileged(new PrivilegedAction<Void>() {
+        @Override
+        public Void run() {
+          constructor.setAccessible(true);
+          return null;
+        }
+      });
+    } catch (RuntimeException e) {}
+  }
+
+  // the looked up or registered failure type constructor, including the fact that JUnit is not in the classpath
+  private static final class Lookup {
+
+    private final Constructor<?> constructor;
+
+    private Lookup(Constructor<?> constructor) {
+      this.constructor = constructor;
+    }
+  }
+
+}
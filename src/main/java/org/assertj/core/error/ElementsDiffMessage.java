@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.util.Arrays.isArray;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.ElementsDiff;
+import org.assertj.core.internal.ElementsDiff.Hunk;
+import org.assertj.core.internal.ElementsDiff.Line;
+import org.assertj.core.util.ArrayWrapperList;
+
+/**
+ * Describes the differences between large groups of elements with the changed hunks of their
+ * {@link ElementsDiff diff}, instead of writing both groups in full.
+ */
+final class ElementsDiffMessage {
+
+  // smaller groups are written in full
+  static final int MIN_SIZE_FOR_DIFF = 20;
+
+  private ElementsDiffMessage() {}
+
+  /**
+   * Returns the diff of the given groups of elements if they are large enough to be described by their diff.
+   *
+   * @param actual the actual group of elements, a list, an iterable or an array.
+   * @param expected the expected group of elements, a list, an iterable or an array.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to compare the elements.
+   * @return the hunks of the diff, or {@code null} if the groups must be written in full.
+   */
+  static List<Hunk> diffOfLargeGroups(Object actual, Object expected, ComparisonStrategy comparisonStrategy) {
+    List<?>[] groups = largeGroups(actual, expected);
+    return groups == null ? null : diff(groups[0], groups[1], comparisonStrategy);
+  }
+
+  /**
+   * Returns the given groups of elements as lists if they are large enough to be described by their diff, without
+   * computing it.
+   *
+   * @param actual the actual group of elements, a list, an iterable or an array.
+   * @param expected the expected group of elements, a list, an iterable or an array.
+   * @return the actual and expected elements, or {@code null} if the groups must be written in full.
+   */
+  static List<?>[] largeGroups(Object actual, Object expected) {
+    List<?> actualElements = asList(actual);
+    List<?> expectedElements = asList(expected);
+    if (actualElements == null || expectedElements == null) return null;
+    if (actualElements.size() < MIN_SIZE_FOR_DIFF && expectedElements.size() < MIN_SIZE_FOR_DIFF) return null;
+    return new List<?>[] { actualElements, expectedElements };
+  }
+
+  /**
+   * Returns the diff of the given lists of elements.
+   *
+   * @param actual the actual elements.
+   * @param expected the expected elements.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to compare the elements.
+   * @return the hunks of the diff, or {@code null} if the lists must be written in full.
+   */
+  static List<Hunk> diff(List<?> actual, List<?> expected, ComparisonStrategy comparisonStrategy) {
+    List<Hunk> hunks = ElementsDiff.diff(actual, expected, comparisonStrategy);
+    return hunks == null || hunks.isEmpty() ? null : hunks;
+  }
+
+  private static List<?> asList(Object group) {
+    if (group instanceof List) return (List<?>) group;
+    if (group instanceof Iterable) return newArrayList((Iterable<?>) group);
+    if (isArray(group)) return ArrayWrapperList.wrap(group);
+    return null;
+  }
+
+  /**
+   * Appends the format of the given hunks, referencing their elements as arguments.
+   *
+   * @param format the message format to append to.
+   * @param arguments the arguments of the message format.
+   * @param hunks the hunks to describe.
+   */
+  static void appendHunks(StringBuilder format, List<Object> arguments, List<Hunk> hunks) {
+    format.append("\nbut found the following differences "
+                  + "(\"-\" expected elements not found, \"+\" actual elements not expected):");
+    for (Hunk hunk : hunks) {
+      format.append("\n\nat index %s of actual and %s of expected:");
+      arguments.add(hunk.getActualIndex());
+      arguments.add(hunk.getExpectedIndex());
+      for (Line line : hunk.getLines()) {
+        switch (line.getKind()) {
+        case MISSING:
+          format.append("\n- <%s>");
+          break;
+        case UNEXPECTED:
+          format.append("\n+ <%s>");
+          break;
+        default:
+          format.append("\n  <%s>");
+        }
+        arguments.add(line.getElement());
+      }
+    }
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * A {@link Representation} remembering the representations of the objects it has written, by identity, so that the
+ * values of a failure are only written once while its message is created.
+ * <p>
+ * It must only be used for the creation of a single failure since the objects may change afterwards.
+ */
+final class MemoizingRepresentation implements Representation {
+
+  private final Representation representation;
+  private final Map<Object, String> representations = new IdentityHashMap<Object, String>();
+
+  private MemoizingRepresentation(Representation representation) {
+    this.representation = representation;
+  }
+
+  /**
+   * Returns a {@link Representation} remembering what the given one writes.
+   *
+   * @param representation the representation to delegate to.
+   * @return the given representation if it already remembers what it writes, a new {@code MemoizingRepresentation}
+   *         otherwise.
+   */
+  static Representation memoizing(Representation representation) {
+    if (representation instanceof MemoizingRepresentation) return representation;
+    return new MemoizingRepresentation(representation);
+  }
+
+  @Override
+  public String toStringOf(Object object) {
+    String toString = representations.get(object);
+    if (toString == null && !representations.containsKey(object)) {
+      toString = representation.toStringOf(object);
+      representations.put(object, toString);
+    }
+    return toString;
+  }
+
+}
@@ -14,6 +14,7 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.error.MemoizingRepresentation.memoizing;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.formatIfArgs;
 
@@ -48,7 +49,8 @@ public class MessageFormatter {
    * <li>the value of the given <code>{@link Description}</code> is used as the first argument referenced in the format
    * string</li>
    * <li>each of the arguments in the given array is converted to a {@code String} by invoking
-   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>.
+   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>, only once for arguments
+   * referenced several times.
    * </ol>
    * 
    * @param d the description of the failed assertion, may be {@code null}.
@@ -60,7 +62,7 @@ public class MessageFormatter {
   public String format(Description d, Representation p, String format, Object... args) {
     checkNotNull(format);
     checkNotNull(args);
-    return descriptionFormatter.format(d) + formatIfArgs(format, format(p, args));
+    return descriptionFormatter.format(d) + formatIfArgs(format, format(memoizing(p), args));
   }
 
   private Object[] format(Representation p, Object[] args) {
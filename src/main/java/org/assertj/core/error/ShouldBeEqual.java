@@ -14,16 +14,23 @@
  */
 package org.assertj.core.error;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.ElementsDiff.Hunk;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.VisibleForTesting;
 
 import static java.lang.Integer.toHexString;
-import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.error.ElementsDiffMessage.appendHunks;
+import static org.assertj.core.error.ElementsDiffMessage.diffOfLargeGroups;
+import static org.assertj.core.error.MemoizingRepresentation.memoizing;
+import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Objects.*;
 
 /**
@@ -33,6 +40,8 @@ import static org.assertj.core.util.Objects.*;
  * The built {@link AssertionError}'s message differentiates {@link #actual} and {@link #expected} description if their
  * string representation are the same (e.g. 42 float and 42 double). It also mentions the comparator in case of a custom
  * comparator is used (instead of equals method).
+ * <p/>
+ * Large lists and arrays are not written in full, only the hunks of their element level diff are.
  *
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -43,7 +52,6 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   private static final String EXPECTED_BUT_WAS_MESSAGE = "\nExpecting:\n <%s>\nto be equal to:\n <%s>\nbut was not.";
   private static final String EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR = "\nExpecting:\n <%s>\nto be equal to:\n " +
 	                                                                      "<%s>\n%s but was not.";
-  private static final Class<?>[] MSG_ARG_TYPES = new Class<?>[] { String.class, String.class, String.class };
   protected final Object actual;
   protected final Object expected;
   @VisibleForTesting
@@ -51,7 +59,7 @@ public class ShouldBeEqual implements AssertionErrorFactory {
   private final ComparisonStrategy comparisonStrategy;
   private Representation representation;
   @VisibleForTesting
-  ConstructorInvoker constructorInvoker = new ConstructorInvoker();
+  ComparisonFailureFactory comparisonFailureFactory = ComparisonFailureFactory.instance();
   @VisibleForTesting
   DescriptionFormatter descriptionFormatter = DescriptionFormatter.instance();
 
@@ -106,20 +114,28 @@ public class ShouldBeEqual implements AssertionErrorFactory {
    */
   @Override
   public AssertionError newAssertionError(Description description, Representation representation) {
-	if (actualAndExpectedHaveSameStringRepresentation()) {
+	// actual and expected are only written once by each representation while the error is created
+	Representation ownRepresentation = memoizing(this.representation);
+	representation = representation == this.representation ? ownRepresentation : memoizing(representation);
+	if (comparisonStrategy.isStandard() && isListOrArray(actual) && isListOrArray(expected)) {
+	  // large lists or arrays are described by the hunks of their diff instead of being written in full
+	  List<Hunk> hunks = diffOfLargeGroups(actual, expected, comparisonStrategy);
+	  if (hunks != null) return Failures.instance().failure(diffErrorMessage(description, representation, hunks));
+	}
+	if (actualAndExpectedHaveSameStringRepresentation(ownRepresentation)) {
 	  // Example : actual = 42f and expected = 42d gives actual : "42" and expected : "42" and
 	  // JUnit 4 manages this case even worst, it will output something like :
 	  // "java.lang.String expected:java.lang.String<42.0> but was: java.lang.String<42.0>"
 	  // which does not solve the problem and makes things even more confusing since we lost the fact that 42 was a
 	  // float or a double, it is then better to built our own description, with the drawback of not using a
 	  // ComparisonFailure (which looks nice in eclipse)
-	  return Failures.instance().failure(defaultDetailedErrorMessage(description, representation));
+	  return Failures.instance().failure(defaultDetailedErrorMessage(description, representation, ownRepresentation));
 	}
 	// only use JUnit error message if comparison strategy was standard, otherwise we need to mention it in the
 	// assertion error message to make it clear to the user it was used.
 	if (comparisonStrategy.isStandard()) {
 	  // comparison strategy is standard -> try to build a JUnit ComparisonFailure that is nicely dispayed in IDE.
-	  AssertionError error = comparisonFailure(description);
+	  AssertionError error = comparisonFailure(description, ownRepresentation);
 	  // error ==null means that JUnit was not in the classpath
 	  if (error != null) return error;
 	}
@@ -127,8 +143,12 @@ public class ShouldBeEqual implements AssertionErrorFactory {
 	return Failures.instance().failure(defaultErrorMessage(description, representation));
   }
 
-  private boolean actualAndExpectedHaveSameStringRepresentation() {
-	return areEqual(representation.toStringOf(actual), representation.toStringOf(expected));
+  private static boolean isListOrArray(Object o) {
+	return o instanceof List || isArray(o);
+  }
+
+  private boolean actualAndExpectedHaveSameStringRepresentation(Representation ownRepresentation) {
+	return areEqual(ownRepresentation.toStringOf(actual), ownRepresentation.toStringOf(expected));
   }
 
   /**
@@ -147,28 +167,38 @@ public class ShouldBeEqual implements AssertionErrorFactory {
 	                            actual, expected, comparisonStrategy);
   }
 
+  private String diffErrorMessage(Description description, Representation representation, List<Hunk> hunks) {
+	StringBuilder format = new StringBuilder("\nExpecting actual to be equal to expected");
+	List<Object> arguments = new ArrayList<Object>();
+	appendHunks(format, arguments, hunks);
+	return messageFormatter.format(description, representation, format.toString(), arguments.toArray());
+  }
+
   /**
-   * Builds and returns an error message from description using {@link #detailedExpected()} and
-   * {@link #detailedActual()} detailed representation.
+   * Builds and returns an error message from description using {@link #detailedExpected(Representation)} and
+   * {@link #detailedActual(Representation)} detailed representation.
    *
    * @param description the {@link Description} used to build the returned error message
    * @param representation the {@link org.assertj.core.presentation.Representation} used to build String representation
    *          of object
-   * @return the error message from description using {@link #detailedExpected()} and {@link #detailedActual()}
-   *         <b>detailed</b> representation.
+   * @param ownRepresentation the {@link org.assertj.core.presentation.Representation} this factory was created with
+   * @return the error message from description using {@link #detailedExpected(Representation)} and
+   *         {@link #detailedActual(Representation)} <b>detailed</b> representation.
    */
-  private String defaultDetailedErrorMessage(Description description, Representation representation) {
+  private String defaultDetailedErrorMessage(Description description, Representation representation,
+	                                         Representation ownRepresentation) {
 	if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy)
 	  return messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
-	                                 detailedActual(),
-	                                 detailedExpected(), comparisonStrategy);
-	return messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, detailedActual(),
-	                               detailedExpected());
+	                                 detailedActual(ownRepresentation),
+	                                 detailedExpected(ownRepresentation), comparisonStrategy);
+	return messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE,
+	                               detailedActual(ownRepresentation), detailedExpected(ownRepresentation));
   }
 
-  private AssertionError comparisonFailure(Description description) {
+  private AssertionError comparisonFailure(Description description, Representation ownRepresentation) {
 	try {
-	  AssertionError comparisonFailure = newComparisonFailure(descriptionFormatter.format(description).trim());
+	  AssertionError comparisonFailure = newComparisonFailure(descriptionFormatter.format(description).trim(),
+	                                                          ownRepresentation);
 	  Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(comparisonFailure);
 	  return comparisonFailure;
 	} catch (Throwable e) {
@@ -176,27 +206,22 @@ public class ShouldBeEqual implements AssertionErrorFactory {
 	}
   }
 
-  private AssertionError newComparisonFailure(String description) throws Exception {
-	Object o = constructorInvoker.newInstance("org.junit.ComparisonFailure", MSG_ARG_TYPES, msgArgs(description));
-	if (o instanceof AssertionError) return (AssertionError) o;
-	return null;
-  }
-
-  private Object[] msgArgs(String description) {
-	return array(description, representation.toStringOf(expected), representation.toStringOf(actual));
+  private AssertionError newComparisonFailure(String description, Representation ownRepresentation) throws Exception {
+	return comparisonFailureFactory.newComparisonFailure(description, ownRepresentation.toStringOf(expected),
+	                                                    ownRepresentation.toStringOf(actual));
   }
 
-  private String detailedToStringOf(Object obj) {
-	return representation.toStringOf(obj) + " (" + obj.getClass().getSimpleName() + "@" + toHexString(obj.hashCode())
+  private String detailedToStringOf(Object obj, Representation ownRepresentation) {
+	return ownRepresentation.toStringOf(obj) + " (" + obj.getClass().getSimpleName() + "@" + toHexString(obj.hashCode())
 	       + ")";
   }
 
-  private String detailedActual() {
-	return detailedToStringOf(actual);
+  private String detailedActual(Representation ownRepresentation) {
+	return detailedToStringOf(actual, ownRepresentation);
   }
 
-  private String detailedExpected() {
-	return detailedToStringOf(expected);
+  private String detailedExpected(Representation ownRepresentation) {
+	return detailedToStringOf(expected, ownRepresentation);
   }
 
   @Override
@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.internal.DeepDifference.Difference;
+
+/**
+ * Creates an <code>{@link AssertionError}</code> indicating that an assertion that verifies that two objects are equal
+ * by comparing their fields recursively failed.
+ */
+public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldBeEqualByComparingFieldByFieldRecursively}</code>.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param other the value actual was compared to.
+   * @param differences the differences found between actual and other, not empty.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeEqualByComparingFieldByFieldRecursively(Object actual, Object other,
+                                                                                    List<Difference> differences) {
+    StringBuilder format = new StringBuilder("\nExpecting:\n  <%s>\nto be equal to:\n  <%s>\n"
+                                             + "when recursively comparing field by field, but found the following difference(s):");
+    List<Object> arguments = new ArrayList<Object>();
+    arguments.add(actual);
+    arguments.add(other);
+    for (Difference difference : differences) {
+      if (difference.getPath().isEmpty()) {
+        format.append("\n\nDifference between the compared objects:");
+      } else {
+        format.append("\n\nPath to difference: <%s>");
+        arguments.add(unquotedString(difference.getPath()));
+      }
+      format.append("\n- expected: <%s>\n- actual  : <%s>");
+      arguments.add(difference.getOther());
+      arguments.add(difference.getActual());
+    }
+    return new ShouldBeEqualByComparingFieldByFieldRecursively(format.toString(), arguments.toArray());
+  }
+
+  private ShouldBeEqualByComparingFieldByFieldRecursively(String format, Object[] arguments) {
+    super(format, arguments);
+  }
+
+}
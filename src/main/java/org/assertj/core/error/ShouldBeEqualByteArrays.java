@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two byte arrays are equal failed.
+ * <p>
+ * Byte arrays can be big (e.g. serialized payloads), so instead of rendering both arrays the message shows the offset of
+ * the first difference and the bytes around it in hexadecimal, the differing byte being enclosed in brackets.
+ */
+public class ShouldBeEqualByteArrays extends BasicErrorMessageFactory {
+
+  // number of bytes shown on each side of the first difference
+  private static final int WINDOW_RADIUS = 8;
+
+  /**
+   * Creates a new <code>{@link ShouldBeEqualByteArrays}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param expected the expected value in the failed assertion, different from {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeEqualByteArrays(byte[] actual, byte[] expected) {
+    return new ShouldBeEqualByteArrays(actual, expected, offsetOfFirstDifference(actual, expected));
+  }
+
+  private ShouldBeEqualByteArrays(byte[] actual, byte[] expected, int offset) {
+    super("\nExpecting byte arrays to be equal but they differ at offset <%s>, expecting (length <%s>):\n <%s>\nbut was (length <%s>):\n <%s>",
+          offset, expected.length, hexWindow(expected, offset), actual.length, hexWindow(actual, offset));
+  }
+
+  // the length of the shortest array if it is a prefix of the other one.
+  private static int offsetOfFirstDifference(byte[] actual, byte[] expected) {
+    int length = Math.min(actual.length, expected.length);
+    for (int i = 0; i < length; i++) {
+      if (actual[i] != expected[i]) return i;
+    }
+    return length;
+  }
+
+  private static CharSequence hexWindow(byte[] bytes, int offset) {
+    int from = Math.max(0, offset - WINDOW_RADIUS);
+    int to = Math.min(bytes.length, offset + WINDOW_RADIUS + 1);
+    StringBuilder window = new StringBuilder();
+    if (from > 0) window.append("... ");
+    for (int i = from; i < to; i++) {
+      if (i > from) window.append(' ');
+      if (i == offset) window.append('[');
+      window.append(String.format("%02X", bytes[i] & 0xFF));
+      if (i == offset) window.append(']');
+    }
+    if (offset >= bytes.length) window.append(from < to ? " [EOF]" : "[EOF]");
+    else if (to < bytes.length) window.append(" ...");
+    return unquotedString(window.toString());
+  }
+
+}
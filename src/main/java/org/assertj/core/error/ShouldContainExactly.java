@@ -14,14 +14,26 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.error.ElementsDiffMessage.appendHunks;
+import static org.assertj.core.error.ElementsDiffMessage.diff;
+import static org.assertj.core.error.ElementsDiffMessage.largeGroups;
 import static org.assertj.core.util.Iterables.isNullOrEmpty;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.description.Description;
 import org.assertj.core.internal.*;
+import org.assertj.core.internal.ElementsDiff.Hunk;
+import org.assertj.core.presentation.Representation;
 
 /**
  * Creates an error message indicating that an assertion that verifies a group of elements contains exactly a given set
  * of values and nothing else failed, exactly meaning same elements in same order. A group of elements can be a
  * collection, an array or a {@code String}.
+ * <p>
+ * Large groups of elements are not written in full, only the hunks of their element level diff are. The diff is only
+ * computed when the message is created.
  * 
  * @author Joel Costigliola
  */
@@ -39,7 +51,8 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
    */
   public static ErrorMessageFactory shouldContainExactly(Object actual, Object expected, Object notFound,
 	                                                     Object notExpected, ComparisonStrategy comparisonStrategy) {
-	return new ShouldContainExactly(actual, expected, notFound, notExpected, comparisonStrategy);
+	return describedByDiffIfLarge(actual, expected, comparisonStrategy,
+	                              new ShouldContainExactly(actual, expected, notFound, notExpected, comparisonStrategy));
   }
 
   /**
@@ -55,10 +68,19 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
   public static ErrorMessageFactory shouldContainExactly(Object actual, Object expected, Object notFound,
 	                                                     Iterable<?> notExpected, ComparisonStrategy comparisonStrategy) {
 	if (isNullOrEmpty(notExpected)) {
-	  return new ShouldContainExactly(actual, expected, notFound, comparisonStrategy);
+	  return describedByDiffIfLarge(actual, expected, comparisonStrategy,
+	                                new ShouldContainExactly(actual, expected, notFound, comparisonStrategy));
 	}
 
-	return new ShouldContainExactly(actual, expected, notFound, notExpected, comparisonStrategy);
+	return describedByDiffIfLarge(actual, expected, comparisonStrategy,
+	                              new ShouldContainExactly(actual, expected, notFound, notExpected, comparisonStrategy));
+  }
+
+  private static ShouldContainExactly describedByDiffIfLarge(Object actual, Object expected,
+	                                                         ComparisonStrategy comparisonStrategy,
+	                                                         ShouldContainExactly inFull) {
+	List<?>[] groups = largeGroups(actual, expected);
+	return groups == null ? inFull : new DiffOfLargeGroups(groups[0], groups[1], comparisonStrategy, inFull);
   }
 
   /**
@@ -72,7 +94,7 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
    */
   public static ErrorMessageFactory shouldContainExactly(Object actual, Object expected, Object notFound,
 	                                                     Object notExpected) {
-	return new ShouldContainExactly(actual, expected, notFound, notExpected, StandardComparisonStrategy.instance());
+	return shouldContainExactly(actual, expected, notFound, notExpected, StandardComparisonStrategy.instance());
   }
 
   /**
@@ -104,6 +126,19 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
 	      actual, expected, notFound, notExpected, comparisonStrategy);
   }
 
+  private static ErrorMessageFactory shouldContainExactly(List<Hunk> hunks, ComparisonStrategy comparisonStrategy) {
+	StringBuilder format = new StringBuilder("\nExpecting actual to contain exactly (and in same order) the expected elements");
+	List<Object> arguments = new ArrayList<Object>();
+	appendHunks(format, arguments, hunks);
+	format.append("\n%s");
+	arguments.add(comparisonStrategy);
+	return new ShouldContainExactly(format.toString(), arguments.toArray());
+  }
+
+  private ShouldContainExactly(String format, Object[] arguments) {
+	super(format, arguments);
+  }
+
   private ShouldContainExactly(Object actual, Object expected, Object notFound, ComparisonStrategy comparisonStrategy) {
 	super("\n" +
 	      "Expecting:\n" +
@@ -156,4 +191,37 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
 	      indexOfDifferentElements, actualElement, expectedElement, comparisonStrategy);
   }
 
+  /**
+   * Describes large groups of elements with the hunks of their diff, computed when the message is created so that
+   * failures which are caught and discarded don't pay for it. Equal to the message writing the groups in full.
+   */
+  private static final class DiffOfLargeGroups extends ShouldContainExactly {
+
+	private final List<?> actual;
+	private final List<?> expected;
+	private final ComparisonStrategy comparisonStrategy;
+
+	private DiffOfLargeGroups(List<?> actual, List<?> expected, ComparisonStrategy comparisonStrategy,
+	                          ShouldContainExactly inFull) {
+	  super(inFull.format, inFull.arguments);
+	  this.actual = actual;
+	  this.expected = expected;
+	  this.comparisonStrategy = comparisonStrategy;
+	}
+
+	@Override
+	public String create(Description d, Representation representation) {
+	  List<Hunk> hunks = diff(actual, expected, comparisonStrategy);
+	  if (hunks == null) return super.create(d, representation);
+	  return ShouldContainExactly.shouldContainExactly(hunks, comparisonStrategy).create(d, representation);
+	}
+
+	@Override
+	public String create() {
+	  List<Hunk> hunks = diff(actual, expected, comparisonStrategy);
+	  if (hunks == null) return super.create();
+	  return ShouldContainExactly.shouldContainExactly(hunks, comparisonStrategy).create();
+	}
+  }
+
 }
@@ -1,17 +1,17 @@
 package org.assertj.core.extractor;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.assertj.core.api.iterable.Extractor;
 import org.assertj.core.groups.Tuple;
 
 class ByNameMultipleExtractor<T> implements Extractor<T, Tuple>{
 
   private final String[] fieldsOrProperties;
+  // built once for all the extracted objects, null names are reported when extracting
+  private final ByNameSingleExtractor<T>[] extractors;
 
   ByNameMultipleExtractor(String... fieldsOrProperties) {
     this.fieldsOrProperties = fieldsOrProperties;
+    this.extractors = fieldsOrProperties == null ? null : ByNameMultipleExtractor.<T> buildExtractors(fieldsOrProperties);
   }
 
   @Override
@@ -23,28 +23,19 @@ class ByNameMultipleExtractor<T> implements Extractor<T, Tuple>{
     if (input == null)
       throw new IllegalArgumentException("The object to extract fields/properties from should not be null");
 
-    List<Extractor<T, Object>> extractors = buildExtractors();
-    List<Object> values = extractValues(input, extractors);
-    
-    return new Tuple(values.toArray());
-  }
-
-  private List<Object> extractValues(T input, List<Extractor<T, Object>> singleExtractors) {
-    List<Object> values = new ArrayList<Object>();
-    
-    for (Extractor<T, Object> extractor : singleExtractors) {
-      values.add(extractor.extract(input));
+    Object[] values = new Object[extractors.length];
+    for (int i = 0; i < extractors.length; i++) {
+      values[i] = extractors[i].extract(input);
     }
-    return values;
+    return new Tuple(values);
   }
 
-  private List<Extractor<T, Object>> buildExtractors() {
-    List<Extractor<T, Object>> result = new ArrayList<Extractor<T,Object>>();
-    
-    for (String name : fieldsOrProperties) {
-      result.add(new ByNameSingleExtractor<T>(name));
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static <T> ByNameSingleExtractor<T>[] buildExtractors(String[] fieldsOrProperties) {
+    ByNameSingleExtractor<T>[] result = new ByNameSingleExtractor[fieldsOrProperties.length];
+    for (int i = 0; i < fieldsOrProperties.length; i++) {
+      result[i] = new ByNameSingleExtractor<T>(fieldsOrProperties[i]);
     }
-    
     return result;
   }
 
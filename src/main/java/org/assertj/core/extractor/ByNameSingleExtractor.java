@@ -1,17 +1,23 @@
 package org.assertj.core.extractor;
 
 import static java.lang.String.*;
+import static org.assertj.core.util.introspection.PropertyPath.NOT_FOUND;
+import static org.assertj.core.util.introspection.PropertyPath.compile;
 
 import org.assertj.core.api.iterable.Extractor;
 import org.assertj.core.internal.PropertySupport;
 import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.IntrospectionError;
+import org.assertj.core.util.introspection.PropertyPath;
 
 class ByNameSingleExtractor<T> implements Extractor<T, Object> {
   private final String propertyOrFieldName;
+  private final PropertyPath propertyOrFieldPath;
 
   ByNameSingleExtractor(String propertyOrFieldName) {
     this.propertyOrFieldName = propertyOrFieldName;
+    // compiled once for all the extracted objects, null names are reported when extracting
+    this.propertyOrFieldPath = propertyOrFieldName == null ? null : compile(propertyOrFieldName);
   }
 
   @Override
@@ -23,21 +29,50 @@ class ByNameSingleExtractor<T> implements Extractor<T, Object> {
     if (input == null)
       throw new IllegalArgumentException("The object to extract field/property from should not be null");
 
-    // first try to get given property values from objects, then try properties
+    // first try to get given property values from objects, then try fields. Names are looked up without exceptions, only
+    // properties or fields that exist but can't be read throw one.
+    IntrospectionError propertyIntrospectionError = null;
     try {
-      return PropertySupport.instance().propertyValueOf(propertyOrFieldName, Object.class, input);
-    } catch (IntrospectionError fieldIntrospectionError) {
-      // no luck with properties, let's try fields
-      try {
-        return FieldSupport.instance().fieldValue(propertyOrFieldName, Object.class, input);
-      } catch (IntrospectionError propertyIntrospectionError) {
-        // no field nor property found with given name, it is considered as an error
-        String message = format(
-            "\nCan't find any field or property with name '%s'.\nError when introspecting fields was :\n- %s \nError when introspecting properties was :\n- %s",
-            propertyOrFieldName, fieldIntrospectionError.getMessage(), propertyIntrospectionError.getMessage());
-        throw new IntrospectionError(message);
-      }
+      Object propertyValue = PropertySupport.instance().findPropertyValueOf(propertyOrFieldPath, input);
+      if (propertyValue != NOT_FOUND) return propertyValue;
+    } catch (IntrospectionError e) {
+      propertyIntrospectionError = e;
     }
+    // no luck with properties, let's try fields
+    IntrospectionError fieldIntrospectionError = null;
+    try {
+      Object fieldValue = FieldSupport.instance().findFieldValue(propertyOrFieldPath, input);
+      if (fieldValue != NOT_FOUND) return fieldValue;
+    } catch (IntrospectionError e) {
+      fieldIntrospectionError = e;
+    }
+    // no field nor property found with given name, it is considered as an error
+    if (propertyIntrospectionError == null) propertyIntrospectionError = propertyIntrospectionError(input);
+    if (fieldIntrospectionError == null) fieldIntrospectionError = fieldIntrospectionError(input);
+    String message = format(
+        "\nCan't find any field or property with name '%s'.\nError when introspecting fields was :\n- %s \nError when introspecting properties was :\n- %s",
+        propertyOrFieldName, propertyIntrospectionError.getMessage(), fieldIntrospectionError.getMessage());
+    throw new IntrospectionError(message);
+  }
+
+  // the missing property is looked up again to get the error describing why it is missing.
+  private IntrospectionError propertyIntrospectionError(T input) {
+    try {
+      PropertySupport.instance().propertyValueOf(propertyOrFieldPath, Object.class, input);
+    } catch (IntrospectionError e) {
+      return e;
+    }
+    return new IntrospectionError(format("Unable to find property '%s' in %s", propertyOrFieldName, input));
+  }
+
+  // the missing field is looked up again to get the error describing why it is missing.
+  private IntrospectionError fieldIntrospectionError(T input) {
+    try {
+      FieldSupport.instance().fieldValue(propertyOrFieldPath, Object.class, input);
+    } catch (IntrospectionError e) {
+      return e;
+    }
+    return new IntrospectionError(format("Unable to find field '%s' in %s", propertyOrFieldName, input));
   }
 
 }
@@ -2,6 +2,7 @@ package org.assertj.core.extractor;
 
 import org.assertj.core.api.iterable.Extractor;
 import org.assertj.core.util.introspection.MethodSupport;
+import org.assertj.core.util.introspection.MethodSupport.MethodCall;
 
 /**
  * 
@@ -12,10 +13,11 @@ import org.assertj.core.util.introspection.MethodSupport;
  */
 class ResultOfExtractor<F> implements Extractor<F, Object> {
 
-  private final String methodName;
-  
+  // compiled once for all the extracted objects
+  private final MethodCall methodCall;
+
   ResultOfExtractor(String methodName) {
-    this.methodName = methodName;
+    this.methodCall = MethodSupport.compile(methodName);
   }
 
   /**
@@ -23,7 +25,7 @@ class ResultOfExtractor<F> implements Extractor<F, Object> {
    */
   @Override
   public Object extract(F input) {
-    return MethodSupport.methodResultFor(input, methodName);
+    return methodCall.resultFor(input);
   }
 
 }
@@ -14,33 +14,33 @@
  */
 package org.assertj.core.groups;
 
-import static java.util.Collections.addAll;
+import static java.util.Arrays.asList;
 import static org.assertj.core.util.Collections.format;
-import static org.assertj.core.util.Lists.newArrayList;
 
-import java.util.List;
+import java.util.Arrays;
 
 public class Tuple {
 
-  private final List<Object> datas = newArrayList();
+  private Object[] datas;
 
   public Tuple(Object... values) {
-	addAll(datas, values);
+	datas = values.clone();
   }
 
   public void addData(Object data) {
-	datas.add(data);
+	datas = Arrays.copyOf(datas, datas.length + 1);
+	datas[datas.length - 1] = data;
   }
 
   public Object[] toArray() {
-	return datas.toArray();
+	return datas.clone();
   }
 
   @Override
   public int hashCode() {
 	final int prime = 31;
 	int result = 1;
-	result = prime * result + datas.hashCode();
+	result = prime * result + Arrays.hashCode(datas);
 	return result;
   }
 
@@ -51,12 +51,12 @@ public class Tuple {
 	if (getClass() != obj.getClass()) return false;
 	Tuple other = (Tuple) obj;
 	// datas can't be null
-	return datas.equals(other.datas);
+	return Arrays.equals(datas, other.datas);
   }
 
   @Override
   public String toString() {
-	return format(datas, "(", ")");
+	return format(asList(datas), "(", ")");
   }
 
   public static Tuple tuple(Object... values) {
@@ -156,10 +156,19 @@ public class Arrays {
       return;
     Set<Object> notFound = new LinkedHashSet<Object>();
     int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) {
-        notFound.add(value);
+    PrimitiveArrayEngine engine = primitiveEngineFor(actual, values);
+    if (engine != null) {
+      // only box the values that are reported.
+      boolean[] contained = engine.contained(actual, values);
+      for (int i = 0; i < valueCount; i++) {
+        if (!contained[i]) notFound.add(Array.get(values, i));
+      }
+    } else {
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) {
+          notFound.add(value);
+        }
       }
     }
     if (!notFound.isEmpty())
@@ -212,6 +221,11 @@ public class Arrays {
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values))
       return;
+    PrimitiveArrayEngine engine = primitiveEngineFor(actual, values);
+    if (engine != null) {
+      assertContainsOnly(info, failures, actual, values, engine);
+      return;
+    }
     Set<Object> notExpected = asSetWithoutDuplicatesAccordingToComparisonStrategy(actual);
     Set<Object> notFound = containsOnly(notExpected, values);
     if (notExpected.isEmpty() && notFound.isEmpty())
@@ -222,9 +236,21 @@ public class Arrays {
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values))
       return;
-    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     Set<Object> notFound = new LinkedHashSet<Object>();
     Set<Object> notOnlyOnce = new LinkedHashSet<Object>();
+    PrimitiveArrayEngine engine = primitiveEngineFor(actual, values);
+    if (engine != null) {
+      boolean[] contained = engine.contained(actual, values);
+      boolean[] containedMoreThanOnce = engine.containedMoreThanOnce(actual, values);
+      for (int i = 0; i < contained.length; i++) {
+        if (!contained[i]) notFound.add(Array.get(values, i));
+        else if (containedMoreThanOnce[i]) notOnlyOnce.add(Array.get(values, i));
+      }
+      if (!notFound.isEmpty() || !notOnlyOnce.isEmpty())
+        throw failures.failure(info, shouldContainsOnlyOnce(actual, values, notFound, notOnlyOnce, comparisonStrategy));
+      return;
+    }
+    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     for (Object expectedElement : asList(values)) {
       if (!arrayContains(actual, expectedElement)) {
         notFound.add(expectedElement);
@@ -238,10 +264,42 @@ public class Arrays {
     // assertion succeeded
   }
 
+  private void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values,
+      PrimitiveArrayEngine engine) {
+    boolean[] expected = engine.contained(values, actual);
+    boolean[] found = engine.contained(actual, values);
+    if (!contains(expected, false) && !contains(found, false))
+      return;
+    // same sets as the generic path : distinct elements in the order of their first occurrence.
+    Set<Object> notExpected = new LinkedHashSet<Object>();
+    for (int i = 0; i < expected.length; i++) {
+      if (!expected[i]) notExpected.add(Array.get(actual, i));
+    }
+    Set<Object> notFound = new LinkedHashSet<Object>();
+    for (int i = 0; i < found.length; i++) {
+      if (!found[i]) notFound.add(Array.get(values, i));
+    }
+    throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected, comparisonStrategy));
+  }
+
+  private static boolean contains(boolean[] flags, boolean value) {
+    for (boolean flag : flags) {
+      if (flag == value) return true;
+    }
+    return false;
+  }
+
   private Set<Object> containsOnly(Set<Object> actual, Object values) {
     Set<Object> notFound = new LinkedHashSet<Object>();
+    ElementIndex actualIndex = ElementIndexes.indexOf(actual.toArray(), comparisonStrategy);
     for (Object o : asSetWithoutDuplicatesAccordingToComparisonStrategy(values)) {
-      if (iterableContains(actual, o)) {
+      if (actualIndex != null) {
+        // actual has no duplicates, removing the indexed element is enough to remove every element equal to o.
+        int id = actualIndex.indexOf(o);
+        if (id == ElementIndex.NOT_FOUND || !actual.remove(actualIndex.get(id))) {
+          notFound.add(o);
+        }
+      } else if (iterableContains(actual, o)) {
         collectionRemoves(actual, o);
       } else {
         notFound.add(o);
@@ -258,6 +316,20 @@ public class Arrays {
    */
   private Set<Object> asSetWithoutDuplicatesAccordingToComparisonStrategy(Object array) {
     Set<Object> set = new LinkedHashSet<Object>();
+    Object[] elements = asList(array).toArray();
+    ElementIndex index = ElementIndexes.indexOf(elements, comparisonStrategy);
+    if (index != null) {
+      // only add the first of equal elements, in array order
+      boolean[] added = new boolean[index.size()];
+      for (Object element : elements) {
+        int id = index.indexOf(element);
+        if (!added[id]) {
+          added[id] = true;
+          set.add(element);
+        }
+      }
+      return set;
+    }
     int size = sizeOf(array);
     for (int i = 0; i < size; i++) {
       Object element = Array.get(array, i);
@@ -285,37 +357,26 @@ public class Arrays {
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence))
       return;
-    // look for given sequence, stop check when there is not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequeceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequeceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence))
-        return;
-    }
+    PrimitiveArrayEngine engine = primitiveEngineFor(actual, sequence);
+    if (engine != null) {
+      if (engine.containsSequence(actual, sequence)) return;
+      throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
+    }
+    // actual can't contain a sequence longer than itself, otherwise actual elements are read once.
+    if (sizeOf(actual) >= sizeOf(sequence)
+        && new SequenceMatcher(asList(sequence).toArray(), comparisonStrategy).isFoundIn(wrap(actual)))
+      return;
     throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   * 
-   * 
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-    int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex)))
-        continue;
-      return false;
-    }
-    return true;
-  }
-
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
     if (commonChecks(info, actual, subsequence))
       return;
+    PrimitiveArrayEngine engine = primitiveEngineFor(actual, subsequence);
+    if (engine != null) {
+      if (engine.containsSubsequence(actual, subsequence)) return;
+      throw failures.failure(info, shouldContainSubsequence(actual, subsequence, comparisonStrategy));
+    }
 
     int sizeOfActual = sizeOf(actual);
     int sizeOfSubsequence = sizeOf(subsequence);
@@ -349,10 +410,18 @@ public class Arrays {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
     Set<Object> found = new LinkedHashSet<Object>();
-    for (int i = 0; i < sizeOf(values); i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) {
-        found.add(value);
+    PrimitiveArrayEngine engine = primitiveEngineFor(array, values);
+    if (engine != null) {
+      boolean[] contained = engine.contained(array, values);
+      for (int i = 0; i < contained.length; i++) {
+        if (contained[i]) found.add(Array.get(values, i));
+      }
+    } else {
+      for (int i = 0; i < sizeOf(values); i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) {
+          found.add(value);
+        }
       }
     }
     if (found.isEmpty()) {
@@ -361,6 +430,15 @@ public class Arrays {
     throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
 
+  /**
+   * Returns the engine comparing the elements of the given arrays without boxing them, {@code null} if they are not
+   * primitive arrays of the same type or if the comparison strategy is not the standard one.
+   */
+  private PrimitiveArrayEngine primitiveEngineFor(Object actual, Object values) {
+    if (!comparisonStrategy.isStandard() || actual.getClass() != values.getClass()) return null;
+    return PrimitiveArrayEngine.engineFor(actual);
+  }
+
   /**
    * Delegates to {@link ComparisonStrategy#arrayContains(Object, Object)}
    */
@@ -370,6 +448,9 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    PrimitiveArrayEngine engine = primitiveEngineFor(array, array);
+    // duplicates are only collected (boxed) to report them.
+    if (engine != null && !engine.hasDuplicates(array)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (isNullOrEmpty(duplicates)) {
@@ -381,6 +462,11 @@ public class Arrays {
   void assertStartsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence))
       return;
+    PrimitiveArrayEngine engine = primitiveEngineFor(actual, sequence);
+    if (engine != null) {
+      if (engine.startsWith(actual, sequence)) return;
+      throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
+    }
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) {
@@ -410,6 +496,11 @@ public class Arrays {
   void assertEndsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence))
       return;
+    PrimitiveArrayEngine engine = primitiveEngineFor(actual, sequence);
+    if (engine != null) {
+      if (engine.endsWith(actual, sequence)) return;
+      throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
+    }
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize)
@@ -618,6 +709,13 @@ public class Arrays {
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0)
       return;
+    PrimitiveArrayEngine engine = PrimitiveArrayEngine.engineFor(array);
+    if (engine != null) {
+      // primitive arrays are compared with their wrapper natural order, without building a Comparable array.
+      int unsortedIndex = engine.indexOfFirstUnsortedElement(array);
+      if (unsortedIndex >= 0) throw failures.failure(info, shouldBeSorted(unsortedIndex, array));
+      return;
+    }
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * {@link PrimitiveArrayEngine} for arrays of {@code boolean}s, values are compared with {@link Boolean#compare}.
+ * <p>
+ * Generated by <code>src/main/scripts/generate-primitive-classes.sh</code> from
+ * <code>src/main/scripts/templates/PrimitiveArrayEngine.java.template</code>, change the template and run the script
+ * instead of editing this file.
+ */
+final class BooleanArrayEngine extends PrimitiveArrayEngine {
+
+  static final BooleanArrayEngine INSTANCE = new BooleanArrayEngine();
+
+  private BooleanArrayEngine() {}
+
+  @Override
+  boolean[] contained(Object array, Object values) {
+    return contained((boolean[]) array, (boolean[]) values);
+  }
+
+  @Override
+  boolean[] containedMoreThanOnce(Object array, Object values) {
+    return containedMoreThanOnce((boolean[]) array, (boolean[]) values);
+  }
+
+  @Override
+  boolean containsSequence(Object array, Object sequence) {
+    return containsSequence((boolean[]) array, (boolean[]) sequence);
+  }
+
+  @Override
+  boolean containsSubsequence(Object array, Object subsequence) {
+    return containsSubsequence((boolean[]) array, (boolean[]) subsequence);
+  }
+
+  @Override
+  boolean startsWith(Object array, Object sequence) {
+    return startsWith((boolean[]) array, (boolean[]) sequence);
+  }
+
+  @Override
+  boolean endsWith(Object array, Object sequence) {
+    return endsWith((boolean[]) array, (boolean[]) sequence);
+  }
+
+  @Override
+  boolean hasDuplicates(Object array) {
+    return hasDuplicates((boolean[]) array);
+  }
+
+  @Override
+  int indexOfFirstUnsortedElement(Object array) {
+    return indexOfFirstUnsortedElement((boolean[]) array);
+  }
+
+  private static boolean[] contained(boolean[] array, boolean[] values) {
+    boolean[] contained = new boolean[values.length];
+    // hash the smallest group and look for the elements of the other one in it.
+    if (array.length <= values.length) {
+      BooleanHashSet arraySet = setOf(array);
+      for (int i = 0; i < values.length; i++) {
+        contained[i] = arraySet.contains(values[i]);
+      }
+      return contained;
+    }
+    BooleanHashSet valuesSet = setOf(values);
+    BooleanHashSet found = new BooleanHashSet(valuesSet.size());
+    for (boolean element : array) {
+      if (valuesSet.contains(element) && found.add(element) && found.size() == valuesSet.size()) break;
+    }
+    for (int i = 0; i < values.length; i++) {
+      contained[i] = found.contains(values[i]);
+    }
+    return contained;
+  }
+
+  private static boolean[] containedMoreThanOnce(boolean[] array, boolean[] values) {
+    BooleanHashSet valuesSet = setOf(values);
+    BooleanHashSet found = new BooleanHashSet(valuesSet.size());
+    BooleanHashSet foundAgain = new BooleanHashSet(valuesSet.size());
+    for (boolean element : array) {
+      if (valuesSet.contains(element) && !found.add(element)) foundAgain.add(element);
+    }
+    boolean[] containedMoreThanOnce = new boolean[values.length];
+    for (int i = 0; i < values.length; i++) {
+      containedMoreThanOnce[i] = foundAgain.contains(values[i]);
+    }
+    return containedMoreThanOnce;
+  }
+
+  private static boolean containsSequence(boolean[] array, boolean[] sequence) {
+    if (sequence.length > array.length) return false;
+    // Knuth-Morris-Pratt : failure[i] is the length of the longest proper prefix of sequence[0..i] that is also a
+    // suffix of it.
+    int[] failure = new int[sequence.length];
+    int matched = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (matched > 0 && !areEqual(sequence[i], sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (areEqual(sequence[i], sequence[matched])) matched++;
+      failure[i] = matched;
+    }
+    matched = 0;
+    for (boolean element : array) {
+      while (matched > 0 && !areEqual(element, sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (areEqual(element, sequence[matched]) && ++matched == sequence.length) return true;
+    }
+    return false;
+  }
+
+  private static boolean containsSubsequence(boolean[] array, boolean[] subsequence) {
+    int subsequenceIndex = 0;
+    for (int i = 0; i < array.length && subsequenceIndex < subsequence.length; i++) {
+      if (areEqual(array[i], subsequence[subsequenceIndex])) subsequenceIndex++;
+    }
+    return subsequenceIndex == subsequence.length;
+  }
+
+  private static boolean startsWith(boolean[] array, boolean[] sequence) {
+    if (sequence.length > array.length) return false;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(sequence[i], array[i])) return false;
+    }
+    return true;
+  }
+
+  private static boolean endsWith(boolean[] array, boolean[] sequence) {
+    if (sequence.length > array.length) return false;
+    int offset = array.length - sequence.length;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(sequence[i], array[offset + i])) return false;
+    }
+    return true;
+  }
+
+  private static boolean hasDuplicates(boolean[] array) {
+    BooleanHashSet set = new BooleanHashSet(array.length);
+    for (boolean element : array) {
+      if (!set.add(element)) return true;
+    }
+    return false;
+  }
+
+  private static int indexOfFirstUnsortedElement(boolean[] array) {
+    for (int i = 0; i < array.length - 1; i++) {
+      if (compare(array[i], array[i + 1]) > 0) return i;
+    }
+    return -1;
+  }
+
+  private static BooleanHashSet setOf(boolean[] array) {
+    BooleanHashSet set = new BooleanHashSet(array.length);
+    for (boolean element : array) {
+      set.add(element);
+    }
+    return set;
+  }
+
+  private static boolean areEqual(boolean value, boolean other) {
+    return compare(value, other) == 0;
+  }
+
+  private static int compare(boolean value, boolean other) {
+    return Boolean.compare(value, other);
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * {@link PrimitiveArrayEngine} for arrays of {@code byte}s, values are compared with {@link Byte#compare}.
+ * <p>
+ * Generated by <code>src/main/scripts/generate-primitive-classes.sh</code> from
+ * <code>src/main/scripts/templates/PrimitiveArrayEngine.java.template</code>, change the template and run the script
+ * instead of editing this file.
+ */
+final class ByteArrayEngine extends PrimitiveArrayEngine {
+
+  static final ByteArrayEngine INSTANCE = new ByteArrayEngine();
+
+  private ByteArrayEngine() {}
+
+  @Override
+  boolean[] contained(Object array, Object values) {
+    return contained((byte[]) array, (byte[]) values);
+  }
+
+  @Override
+  boolean[] containedMoreThanOnce(Object array, Object values) {
+    return containedMoreThanOnce((byte[]) array, (byte[]) values);
+  }
+
+  @Override
+  boolean containsSequence(Object array, Object sequence) {
+    return containsSequence((byte[]) array, (byte[]) sequence);
+  }
+
+  @Override
+  boolean containsSubsequence(Object array, Object subsequence) {
+    return containsSubsequence((byte[]) array, (byte[]) subsequence);
+  }
+
+  @Override
+  boolean startsWith(Object array, Object sequence) {
+    return startsWith((byte[]) array, (byte[]) sequence);
+  }
+
+  @Override
+  boolean endsWith(Object array, Object sequence) {
+    return endsWith((byte[]) array, (byte[]) sequence);
+  }
+
+  @Override
+  boolean hasDuplicates(Object array) {
+    return hasDuplicates((byte[]) array);
+  }
+
+  @Override
+  int indexOfFirstUnsortedElement(Object array) {
+    return indexOfFirstUnsortedElement((byte[]) array);
+  }
+
+  private static boolean[] contained(byte[] array, byte[] values) {
+    boolean[] contained = new boolean[values.length];
+    // hash the smallest group and look for the elements of the other one in it.
+    if (array.length <= values.length) {
+      ByteHashSet arraySet = setOf(array);
+      for (int i = 0; i < values.length; i++) {
+        contained[i] = arraySet.contains(values[i]);
+      }
+      return contained;
+    }
+    ByteHashSet valuesSet = setOf(values);
+    ByteHashSet found = new ByteHashSet(valuesSet.size());
+    for (byte element : array) {
+      if (valuesSet.contains(element) && found.add(element) && found.size() == valuesSet.size()) break;
+    }
+    for (int i = 0; i < values.length; i++) {
+      contained[i] = found.contains(values[i]);
+    }
+    return contained;
+  }
+
+  private static boolean[] containedMoreThanOnce(byte[] array, byte[] values) {
+    ByteHashSet valuesSet = setOf(values);
+    ByteHashSet found = new ByteHashSet(valuesSet.size());
+    ByteHashSet foundAgain = new ByteHashSet(valuesSet.size());
+    for (byte element : array) {
+      if (valuesSet.contains(element) && !found.add(element)) foundAgain.add(element);
+    }
+    boolean[] containedMoreThanOnce = new boolean[values.length];
+    for (int i = 0; i < values.length; i++) {
+      containedMoreThanOnce[i] = foundAgain.contains(values[i]);
+    }
+    return containedMoreThanOnce;
+  }
+
+  private static boolean containsSequence(byte[] array, byte[] sequence) {
+    if (sequence.length > array.length) return false;
+    // Knuth-Morris-Pratt : failure[i] is the length of the longest proper prefix of sequence[0..i] that is also a
+    // suffix of it.
+    int[] failure = new int[sequence.length];
+    int matched = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (matched > 0 && !areEqual(sequence[i], sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (areEqual(sequence[i], sequence[matched])) matched++;
+      failure[i] = matched;
+    }
+    matched = 0;
+    for (byte element : array) {
+      while (matched > 0 && !areEqual(element, sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (areEqual(element, sequence[matched]) && ++matched == sequence.length) return true;
+    }
+    return false;
+  }
+
+  private static boolean containsSubsequence(byte[] array, byte[] subsequence) {
+    int subsequenceIndex = 0;
+    for (int i = 0; i < array.length && subsequenceIndex < subsequence.length; i++) {
+      if (areEqual(array[i], subsequence[subsequenceIndex])) subsequenceIndex++;
+    }
+    return subsequenceIndex == subsequence.length;
+  }
+
+  private static boolean startsWith(byte[] array, byte[] sequence) {
+    if (sequence.length > array.length) return false;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(sequence[i], array[i])) return false;
+    }
+    return true;
+  }
+
+  private static boolean endsWith(byte[] array, byte[] sequence) {
+    if (sequence.length > array.length) return false;
+    int offset = array.length - sequence.length;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(sequence[i], array[offset + i])) return false;
+    }
+    return true;
+  }
+
+  private static boolean hasDuplicates(byte[] array) {
+    ByteHashSet set = new ByteHashSet(array.length);
+    for (byte element : array) {
+      if (!set.add(element)) return true;
+    }
+    return false;
+  }
+
+  private static int indexOfFirstUnsortedElement(byte[] array) {
+    for (int i = 0; i < array.length - 1; i++) {
+      if (compare(array[i], array[i + 1]) > 0) return i;
+    }
+    return -1;
+  }
+
+  private static ByteHashSet setOf(byte[] array) {
+    ByteHashSet set = new ByteHashSet(array.length);
+    for (byte element : array) {
+      set.add(element);
+    }
+    return set;
+  }
+
+  private static boolean areEqual(byte value, byte other) {
+    return compare(value, other) == 0;
+  }
+
+  private static int compare(byte value, byte other) {
+    return Byte.compare(value, other);
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Set of {@code byte}s stored without boxing in an open addressing hash table (linear probing, load factor kept under
+ * 1/2), two values being the same if {@link Byte#compare} considers them equal.
+ * <p>
+ * Generated by <code>src/main/scripts/generate-primitive-classes.sh</code> from
+ * <code>src/main/scripts/templates/PrimitiveHashSet.java.template</code>, change the template and run the script
+ * instead of editing this file.
+ */
+final class ByteHashSet {
+
+  private static final int MINIMUM_CAPACITY = 8;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  // values are stored as keys equal when values are, the key 0 marks free slots so its presence is tracked apart.
+  private byte[] keys;
+  private boolean containsZero;
+  private int size;
+
+  ByteHashSet(int expectedSize) {
+    int capacity = MINIMUM_CAPACITY;
+    while (capacity < MAXIMUM_CAPACITY && capacity / 2 < expectedSize) {
+      capacity <<= 1;
+    }
+    keys = new byte[capacity];
+  }
+
+  /**
+   * Adds the given value to this set if it does not already contain it.
+   *
+   * @param value the value to add.
+   * @return {@code true} if the value has been added, {@code false} if this set already contained it.
+   */
+  boolean add(byte value) {
+    byte key = keyOf(value);
+    if (key == 0) {
+      if (containsZero) return false;
+      containsZero = true;
+      size++;
+      return true;
+    }
+    int mask = keys.length - 1;
+    int slot = slotOf(key, mask);
+    while (keys[slot] != 0) {
+      if (keys[slot] == key) return false;
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    if (++size > keys.length / 2 && keys.length < MAXIMUM_CAPACITY) grow();
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if this set contains the given value.
+   *
+   * @param value the value to look for.
+   * @return {@code true} if this set contains the given value.
+   */
+  boolean contains(byte value) {
+    byte key = keyOf(value);
+    if (key == 0) return containsZero;
+    int mask = keys.length - 1;
+    for (int slot = slotOf(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) return true;
+    }
+    return false;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private void grow() {
+    byte[] oldKeys = keys;
+    keys = new byte[oldKeys.length * 2];
+    int mask = keys.length - 1;
+    for (byte key : oldKeys) {
+      if (key == 0) continue;
+      int slot = slotOf(key, mask);
+      while (keys[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+    }
+  }
+
+  private static byte keyOf(byte value) {
+    return value;
+  }
+
+  private static int slotOf(byte key, int mask) {
+    // multiplying by the golden ratio spreads consecutive keys, high bits are folded as they are the best mixed ones.
+    int hash = key * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * {@link PrimitiveArrayEngine} for arrays of {@code char}s, values are compared with {@link Character#compare}.
+ * <p>
+ * Generated by <code>src/main/scripts/generate-primitive-classes.sh</code> from
+ * <code>src/main/scripts/templates/PrimitiveArrayEngine.java.template</code>, change the template and run the script
+ * instead of editing this file.
+ */
+final class CharArrayEngine extends PrimitiveArrayEngine {
+
+  static final CharArrayEngine INSTANCE = new CharArrayEngine();
+
+  private CharArrayEngine() {}
+
+  @Override
+  boolean[] contained(Object array, Object values) {
+    return contained((char[]) array, (char[]) values);
+  }
+
+  @Override
+  boolean[] containedMoreThanOnce(Object array, Object values) {
+    return containedMoreThanOnce((char[]) array, (char[]) values);
+  }
+
+  @Override
+  boolean containsSequence(Object array, Object sequence) {
+    return containsSequence((char[]) array, (char[]) sequence);
+  }
+
+  @Override
+  boolean containsSubsequence(Object array, Object subsequence) {
+    return containsSubsequence((char[]) array, (char[]) subsequence);
+  }
+
+  @Override
+  boolean startsWith(Object array, Object sequence) {
+    return startsWith((char[]) array, (char[]) sequence);
+  }
+
+  @Override
+  boolean endsWith(Object array, Object sequence) {
+    return endsWith((char[]) array, (char[]) sequence);
+  }
+
+  @Override
+  boolean hasDuplicates(Object array) {
+    return hasDuplicates((char[]) array);
+  }
+
+  @Override
+  int indexOfFirstUnsortedElement(Object array) {
+    return indexOfFirstUnsortedElement((char[]) array);
+  }
+
+  private static boolean[] contained(char[] array, char[] values) {
+    boolean[] contained = new boolean[values.length];
+    // hash the smallest group and look for the elements of the other one in it.
+    if (array.length <= values.length) {
+      CharHashSet arraySet = setOf(array);
+      for (int i = 0; i < values.length; i++) {
+        contained[i] = arraySet.contains(values[i]);
+      }
+      return contained;
+    }
+    CharHashSet valuesSet = setOf(values);
+    CharHashSet found = new CharHashSet(valuesSet.size());
+    for (char element : array) {
+      if (valuesSet.contains(element) && found.add(element) && found.size() == valuesSet.size()) break;
+    }
+    for (int i = 0; i < values.length; i++) {
+      contained[i] = found.contains(values[i]);
+    }
+    return contained;
+  }
+
+  private static boolean[] containedMoreThanOnce(char[] array, char[] values) {
+    CharHashSet valuesSet = setOf(values);
+    CharHashSet found = new CharHashSet(valuesSet.size());
+    CharHashSet foundAgain = new CharHashSet(valuesSet.size());
+    for (char element : array) {
+      if (valuesSet.contains(element) && !found.add(element)) foundAgain.add(element);
+    }
+    boolean[] containedMoreThanOnce = new boolean[values.length];
+    for (int i = 0; i < values.length; i++) {
+      containedMoreThanOnce[i] = foundAgain.contains(values[i]);
+    }
+    return containedMoreThanOnce;
+  }
+
+  private static boolean containsSequence(char[] array, char[] sequence) {
+    if (sequence.length > array.length) return false;
+    // Knuth-Morris-Pratt : failure[i] is the length of the longest proper prefix of sequence[0..i] that is also a
+    // suffix of it.
+    int[] failure = new int[sequence.length];
+    int matched = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (matched > 0 && !areEqual(sequence[i], sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (areEqual(sequence[i], sequence[matched])) matched++;
+      failure[i] = matched;
+    }
+    matched = 0;
+    for (char element : array) {
+      while (matched > 0 && !areEqual(element, sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (areEqual(element, sequence[matched]) && ++matched == sequence.length) return true;
+    }
+    return false;
+  }
+
+  private static boolean containsSubsequence(char[] array, char[] subsequence) {
+    int subsequenceIndex = 0;
+    for (int i = 0; i < array.length && subsequenceIndex < subsequence.length; i++) {
+      if (areEqual(array[i], subsequence[subsequenceIndex])) subsequenceIndex++;
+    }
+    return subsequenceIndex == subsequence.length;
+  }
+
+  private static boolean startsWith(char[] array, char[] sequence) {
+    if (sequence.length > array.length) return false;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(sequence[i], array[i])) return false;
+    }
+    return true;
+  }
+
+  private static boolean endsWith(char[] array, char[] sequence) {
+    if (sequence.length > array.length) return false;
+    int offset = array.length - sequence.length;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(sequence[i], array[offset + i])) return false;
+    }
+    return true;
+  }
+
+  private static boolean hasDuplicates(char[] array) {
+    CharHashSet set = new CharHashSet(array.length);
+    for (char element : array) {
+      if (!set.add(element)) return true;
+    }
+    return false;
+  }
+
+  private static int indexOfFirstUnsortedElement(char[] array) {
+    for (int i = 0; i < array.length - 1; i++) {
+      if (compare(array[i], array[i + 1]) > 0) return i;
+    }
+    return -1;
+  }
+
+  private static CharHashSet setOf(char[] array) {
+    CharHashSet set = new CharHashSet(array.length);
+    for (char element : array) {
+      set.add(element);
+    }
+    return set;
+  }
+
+  private static boolean areEqual(char value, char other) {
+    return compare(value, other) == 0;
+  }
+
+  private static int compare(char value, char other) {
+    return Character.compare(value, other);
+  }
+
+}
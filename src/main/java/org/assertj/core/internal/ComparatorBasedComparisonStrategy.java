@@ -15,6 +15,7 @@
 package org.assertj.core.internal;
 
 import static org.assertj.core.util.Iterables.isNullOrEmpty;
+import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.Comparator;
 import java.util.Iterator;
@@ -109,14 +110,22 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
 
   /**
    * Returns any duplicate elements from the given {@link Iterable} according to {@link #comparator}.
+   * <p>
+   * A {@link FieldByFieldComparator} does not define an order, elements are then hashed with
+   * {@link FieldByFieldComparator#hashCodeOf(Object)} when they are all of the same class and the comparator is not a
+   * subclass of AssertJ ones, and duplicates are returned in the order they are found, each one only once.
    * 
    * @param iterable the given {@link Iterable} we want to extract duplicate elements.
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
    *         empty {@link Iterable} is returned.
    */
-  // overridden to write javadoc.
   @Override
   public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
+	if (comparator instanceof FieldByFieldComparator && !isNullOrEmpty(iterable)) {
+	  Iterable<?> duplicates = FieldByFieldIndex.duplicatesFrom(newArrayList(iterable).toArray(),
+	                                                            (FieldByFieldComparator) comparator);
+	  if (duplicates != null) return duplicates;
+	}
 	return super.duplicatesFrom(iterable);
   }
 
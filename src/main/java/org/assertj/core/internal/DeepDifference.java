@@ -0,0 +1,379 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Arrays.isArray;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+
+import org.assertj.core.util.introspection.IntrospectionError;
+
+/**
+ * Recursive field by field comparison of two object graphs, reporting the paths where they differ.
+ * <p>
+ * Objects are compared as follows:
+ * <ul>
+ * <li>identical references are equal, their fields are not compared.</li>
+ * <li>arrays and lists are compared element by element, as well as sorted sets.</li>
+ * <li>other collections are compared regardless of element order, and maps by key: elements and keys are matched
+ * through buckets of a hash code computed from their values.</li>
+ * <li>objects whose class overrides <code>equals</code> (String, numbers, enums...) or belongs to the JDK are compared
+ * with <code>equals</code>.</li>
+ * <li>other objects must be instances of the same class and are compared field by field, like
+ * {@link Objects#assertIsEqualToIgnoringGivenFields(org.assertj.core.api.AssertionInfo, Object, Object, String...)}
+ * does, but recursively.</li>
+ * </ul>
+ * Each pair of objects is compared at most once: pairs already being compared are assumed equal, which makes the
+ * comparison terminate on cyclic graphs, and the result of the comparison of the elements of unordered collections and
+ * map keys is remembered for the objects they share.
+ */
+public final class DeepDifference {
+
+  // classes whose instances are compared with equals, see Accessors for why they are stored in a ClassValue.
+  private static final ClassValue<Boolean> COMPARED_WITH_EQUALS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      if (type.getName().startsWith("java.")) return true;
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        try {
+          c.getDeclaredMethod("equals", Object.class);
+          return true;
+        } catch (NoSuchMethodException e) {
+          // look in superclass
+        }
+      }
+      return false;
+    }
+  };
+
+  private static final Object NO_MATCH = new Object();
+
+  // levels of values whose content is hashed to put unordered collection elements and map keys in buckets, enough to
+  // tell apart typical domain objects referencing other objects and groups of objects, e.g. orders with their customer
+  // and items.
+  private static final int HASHED_LEVELS = 3;
+
+  // results of the comparisons of objects shared by unordered collection elements or map keys.
+  private final Set<DualKey> knownEqual = new HashSet<DualKey>();
+  private final Set<DualKey> knownDifferent = new HashSet<DualKey>();
+
+  private DeepDifference() {}
+
+  /**
+   * Compares recursively the given objects field by field and returns their differences.
+   *
+   * @param actual the actual object graph.
+   * @param other the object graph to compare actual to.
+   * @return the differences between the given objects, in breadth first order, empty if they are equal.
+   */
+  public static List<Difference> determineDifferences(Object actual, Object other) {
+    return new DeepDifference().differences(actual, other, false);
+  }
+
+  private List<Difference> differences(Object actual, Object other, boolean stopAtFirstDifference) {
+    List<Difference> differences = new ArrayList<Difference>();
+    Set<DualKey> visited = new HashSet<DualKey>();
+    // breadth first, with an explicit queue not to overflow the stack on deep graphs such as long linked lists
+    Deque<DualKey> toCompare = new ArrayDeque<DualKey>();
+    DualKey root = new DualKey(null, null, null, actual, other);
+    toCompare.add(root);
+    while (!toCompare.isEmpty()) {
+      DualKey dualKey = toCompare.removeFirst();
+      if (dualKey.actual == dualKey.other) continue;
+      boolean equal = dualKey.actual != null && dualKey.other != null
+                      && (!visited.add(dualKey) || knownEqual.contains(dualKey)
+                          || !knownDifferent.contains(dualKey) && compare(dualKey, toCompare));
+      if (!equal) {
+        differences.add(new Difference(dualKey.path(), dualKey.actual, dualKey.other));
+        if (stopAtFirstDifference) break;
+      }
+    }
+    // visited pairs were assumed equal while being compared, which is true if no difference has been found
+    if (differences.isEmpty()) knownEqual.addAll(visited);
+    else knownDifferent.add(root);
+    return differences;
+  }
+
+  // compares the given non null objects, queuing the pairs of their values to compare, false if they differ.
+  private boolean compare(DualKey dualKey, Deque<DualKey> toCompare) {
+    Object actual = dualKey.actual;
+    Object other = dualKey.other;
+    if (isArray(actual)) {
+      if (!isArray(other) || Array.getLength(actual) != Array.getLength(other)) return false;
+      if (actual.getClass().getComponentType().isPrimitive() || other.getClass().getComponentType().isPrimitive()) {
+        return org.assertj.core.util.Objects.areEqualArrays(actual, other);
+      }
+      Object[] actualElements = (Object[]) actual;
+      Object[] otherElements = (Object[]) other;
+      for (int i = 0; i < actualElements.length; i++) {
+        toCompare.add(new DualKey(dualKey, null, i, actualElements[i], otherElements[i]));
+      }
+      return true;
+    }
+    if (actual instanceof Collection) {
+      if (!(other instanceof Collection)) return false;
+      Collection<?> actualElements = (Collection<?>) actual;
+      Collection<?> otherElements = (Collection<?>) other;
+      if (actualElements.size() != otherElements.size()) return false;
+      if (isOrdered(actualElements) && isOrdered(otherElements)) {
+        Iterator<?> otherIterator = otherElements.iterator();
+        int i = 0;
+        for (Object actualElement : actualElements) {
+          toCompare.add(new DualKey(dualKey, null, i++, actualElement, otherIterator.next()));
+        }
+        return true;
+      }
+      return unorderedElementsMatch(actualElements, otherElements);
+    }
+    if (actual instanceof Map) {
+      if (!(other instanceof Map)) return false;
+      return compareEntries(dualKey, (Map<?, ?>) actual, (Map<?, ?>) other, toCompare);
+    }
+    if (isComparedWithEquals(actual.getClass())) return actual.equals(other);
+    if (!actual.getClass().isInstance(other)) return false;
+    FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(actual);
+    for (int i = 0; i < plan.size(); i++) {
+      try {
+        toCompare.add(new DualKey(dualKey, plan.name(i), null, plan.valueOf(i, actual), plan.valueOf(i, other)));
+      } catch (IntrospectionError e) {
+        // Not readable field, skip.
+      }
+    }
+    return true;
+  }
+
+  private static boolean isOrdered(Collection<?> collection) {
+    return collection instanceof List || collection instanceof SortedSet;
+  }
+
+  private boolean unorderedElementsMatch(Collection<?> actualElements, Collection<?> otherElements) {
+    Map<Integer, List<Object>> otherBuckets = new HashMap<Integer, List<Object>>();
+    for (Object otherElement : otherElements) {
+      bucketOf(otherBuckets, shallowHashCode(otherElement)).add(otherElement);
+    }
+    for (Object actualElement : actualElements) {
+      if (removeMatch(otherBuckets.get(shallowHashCode(actualElement)), actualElement) == NO_MATCH
+          && removeMatchInAnyBucket(otherBuckets, actualElement) == NO_MATCH) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean compareEntries(DualKey dualKey, Map<?, ?> actual, Map<?, ?> other, Deque<DualKey> toCompare) {
+    if (actual.size() != other.size()) return false;
+    Map<Integer, List<Object>> otherKeyBuckets = new HashMap<Integer, List<Object>>();
+    for (Object otherKey : other.keySet()) {
+      bucketOf(otherKeyBuckets, shallowHashCode(otherKey)).add(otherKey);
+    }
+    for (Map.Entry<?, ?> actualEntry : actual.entrySet()) {
+      Object actualKey = actualEntry.getKey();
+      Object otherKey = removeMatch(otherKeyBuckets.get(shallowHashCode(actualKey)), actualKey);
+      if (otherKey == NO_MATCH) otherKey = removeMatchInAnyBucket(otherKeyBuckets, actualKey);
+      if (otherKey == NO_MATCH) return false;
+      toCompare.add(new DualKey(dualKey, null, actualKey, actualEntry.getValue(), other.get(otherKey)));
+    }
+    return true;
+  }
+
+  // removes from the given candidates the first one equal to the given object and returns it, NO_MATCH if none is.
+  private Object removeMatch(List<Object> candidates, Object object) {
+    if (candidates == null) return NO_MATCH;
+    for (Iterator<Object> iterator = candidates.iterator(); iterator.hasNext();) {
+      Object candidate = iterator.next();
+      if (candidate == object || differences(object, candidate, true).isEmpty()) {
+        iterator.remove();
+        return candidate;
+      }
+    }
+    return NO_MATCH;
+  }
+
+  // only called when hash codes are not consistent with the comparison, e.g. for objects of different classes.
+  private Object removeMatchInAnyBucket(Map<Integer, List<Object>> buckets, Object object) {
+    for (List<Object> candidates : buckets.values()) {
+      Object match = removeMatch(candidates, object);
+      if (match != NO_MATCH) return match;
+    }
+    return NO_MATCH;
+  }
+
+  private static List<Object> bucketOf(Map<Integer, List<Object>> buckets, int hashCode) {
+    List<Object> bucket = buckets.get(hashCode);
+    if (bucket == null) {
+      bucket = new ArrayList<Object>(1);
+      buckets.put(hashCode, bucket);
+    }
+    return bucket;
+  }
+
+  /**
+   * Returns a hash code of the given object that is the same for objects found equal by this comparison: objects
+   * compared with <code>equals</code> use their hash code, objects compared field by field combine their class and the
+   * hash codes of their field values, groups combine their size and the hash codes of their elements (regardless of
+   * their order for collections and maps, which may be compared with unordered ones).
+   * <p>
+   * Values are only descended into for {@link #HASHED_LEVELS} levels, deeper values only contribute their class or
+   * size, so that the hash code is computed in a time bounded by the size of these first levels rather than of the
+   * whole graph, and terminates on cyclic graphs.
+   */
+  private static int shallowHashCode(Object object) {
+    return shallowHashCode(object, HASHED_LEVELS);
+  }
+
+  private static int shallowHashCode(Object object, int levels) {
+    if (object == null) return 0;
+    if (isArray(object)) {
+      int length = Array.getLength(object);
+      if (levels == 0 || !(object instanceof Object[])) return length;
+      int hashCode = length;
+      for (Object element : (Object[]) object) {
+        hashCode = 31 * hashCode + shallowHashCode(element, levels - 1);
+      }
+      return hashCode;
+    }
+    if (object instanceof Collection) {
+      int hashCode = ((Collection<?>) object).size();
+      if (levels == 0) return hashCode;
+      for (Object element : (Collection<?>) object) {
+        hashCode += shallowHashCode(element, levels - 1);
+      }
+      return hashCode;
+    }
+    if (object instanceof Map) {
+      int hashCode = ((Map<?, ?>) object).size();
+      if (levels == 0) return hashCode;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+        hashCode += shallowHashCode(entry.getKey(), levels - 1) ^ shallowHashCode(entry.getValue(), levels - 1);
+      }
+      return hashCode;
+    }
+    if (isComparedWithEquals(object.getClass())) return object.hashCode();
+    int hashCode = object.getClass().hashCode();
+    if (levels == 0) return hashCode;
+    FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(object);
+    for (int i = 0; i < plan.size(); i++) {
+      try {
+        hashCode = 31 * hashCode + shallowHashCode(plan.valueOf(i, object), levels - 1);
+      } catch (IntrospectionError e) {
+        // Not readable field, skip.
+      }
+    }
+    return hashCode;
+  }
+
+  private static boolean isComparedWithEquals(Class<?> type) {
+    return COMPARED_WITH_EQUALS.get(type);
+  }
+
+  /**
+   * A difference between the compared object graphs.
+   */
+  public static final class Difference {
+
+    private final String path;
+    private final Object actual;
+    private final Object other;
+
+    Difference(String path, Object actual, Object other) {
+      this.path = path;
+      this.actual = actual;
+      this.other = other;
+    }
+
+    /**
+     * Returns the path of the differing values from the compared objects, e.g. <code>friends[2].name.first</code>,
+     * empty if the compared objects themselves differ.
+     *
+     * @return the path of the differing values from the compared objects.
+     */
+    public String getPath() {
+      return path;
+    }
+
+    public Object getActual() {
+      return actual;
+    }
+
+    public Object getOther() {
+      return other;
+    }
+
+    @Override
+    public String toString() {
+      return "Difference [path=" + path + ", actual=" + actual + ", other=" + other + "]";
+    }
+  }
+
+  /**
+   * A pair of objects to compare with the path leading to them, pairs are equal if they hold the same objects.
+   */
+  private static final class DualKey {
+
+    private final DualKey parent;
+    // name of the field holding the objects, or null if they are elements or map values
+    private final String fieldName;
+    // index of the elements, or key of the map values
+    private final Object key;
+    final Object actual;
+    final Object other;
+
+    DualKey(DualKey parent, String fieldName, Object key, Object actual, Object other) {
+      this.parent = parent;
+      this.fieldName = fieldName;
+      this.key = key;
+      this.actual = actual;
+      this.other = other;
+    }
+
+    // only built for differences, iteratively as the path may be very long
+    String path() {
+      List<DualKey> keys = new ArrayList<DualKey>();
+      for (DualKey dualKey = this; dualKey.parent != null; dualKey = dualKey.parent) {
+        keys.add(dualKey);
+      }
+      StringBuilder path = new StringBuilder();
+      for (int i = keys.size() - 1; i >= 0; i--) {
+        DualKey dualKey = keys.get(i);
+        if (dualKey.fieldName == null) path.append('[').append(dualKey.key).append(']');
+        else path.append(path.length() == 0 ? "" : ".").append(dualKey.fieldName);
+      }
+      return path.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof DualKey)) return false;
+      DualKey that = (DualKey) obj;
+      return actual == that.actual && other == that.other;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(actual) + System.identityHashCode(other);
+    }
+  }
+
+}
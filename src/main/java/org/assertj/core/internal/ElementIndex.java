@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Index of distinct elements according to a {@link ComparisonStrategy}, giving fast lookups to the assertions that
+ * would otherwise look for each value in a whole group of elements.
+ * <p>
+ * Each distinct element has an id between 0 (inclusive) and {@link #size()} (exclusive) that callers can use to attach
+ * data to it with a plain array.
+ */
+interface ElementIndex {
+
+  int NOT_FOUND = -1;
+
+  /**
+   * Returns the id of the indexed element equal to the given value, or {@link #NOT_FOUND} if there is none.
+   * 
+   * @param value the value to look for.
+   * @return the id of the indexed element equal to the given value, or {@link #NOT_FOUND} if there is none.
+   */
+  int indexOf(Object value);
+
+  /**
+   * Returns true if an indexed element is equal to the given value.
+   * 
+   * @param value the value to look for.
+   * @return true if an indexed element is equal to the given value.
+   */
+  boolean contains(Object value);
+
+  /**
+   * Returns the indexed element having the given id.
+   * 
+   * @param id the id of the element, as returned by {@link #indexOf(Object)}.
+   * @return the indexed element having the given id.
+   */
+  Object get(int id);
+
+  /**
+   * @return the number of distinct indexed elements.
+   */
+  int size();
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Comparator;
+
+/**
+ * Picks the {@link ElementIndex} matching a {@link ComparisonStrategy}.
+ */
+final class ElementIndexes {
+
+  /**
+   * Returns an index of the given elements honoring the given comparison strategy, {@code null} if the comparison
+   * strategy does not allow indexing them, in which case callers must fall back to
+   * {@link ComparisonStrategy#iterableContains(Iterable, Object)}.
+   *
+   * @param elements the elements to index.
+   * @param comparisonStrategy the comparison strategy defining element equality.
+   * @return an index of the given elements or {@code null} if they can't be indexed.
+   */
+  static ElementIndex indexOf(Object[] elements, ComparisonStrategy comparisonStrategy) {
+    if (comparisonStrategy.isStandard()) {
+      return HashIndex.of(elements);
+    }
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+      // field by field comparators don't define an order but hash consistently with the fields they compare.
+      if (comparator instanceof FieldByFieldComparator) {
+        return FieldByFieldIndex.of(elements, (FieldByFieldComparator) comparator);
+      }
+      return SortedIndex.of(elements, comparator);
+    }
+    return null;
+  }
+
+  private ElementIndexes() {}
+
+}
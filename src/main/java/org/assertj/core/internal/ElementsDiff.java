@@ -0,0 +1,274 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Element level diff of two lists, grouped in hunks of changes surrounded by a few unchanged elements.
+ * <p>
+ * The diff is computed with the Myers algorithm after the common prefix and suffix of the lists have been left out, it
+ * thus runs in O((N + M) D) time for N and M elements and D changes, near-linear time when a few elements differ. The
+ * memory used grows with D<sup>2</sup>, lists with more than {@link #MAX_CHANGES} changes are therefore not diffed.
+ */
+public final class ElementsDiff {
+
+  /**
+   * The maximum number of changes of a diff.
+   */
+  public static final int MAX_CHANGES = 500;
+
+  /**
+   * The number of unchanged elements written before and after the changes of a hunk.
+   */
+  public static final int CONTEXT_SIZE = 2;
+
+  private final List<?> actual;
+  private final List<?> expected;
+  private final ComparisonStrategy comparisonStrategy;
+
+  private ElementsDiff(List<?> actual, List<?> expected, ComparisonStrategy comparisonStrategy) {
+    this.actual = actual;
+    this.expected = expected;
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
+  /**
+   * Computes the changes turning the expected elements into the actual ones.
+   *
+   * @param actual the actual elements.
+   * @param expected the expected elements.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to compare the elements.
+   * @return the hunks of changes (empty if the lists have the same elements), or {@code null} if there are more than
+   *         {@link #MAX_CHANGES} changes.
+   */
+  public static List<Hunk> diff(List<?> actual, List<?> expected, ComparisonStrategy comparisonStrategy) {
+    List<Change> changes = new ElementsDiff(actual, expected, comparisonStrategy).changes();
+    return changes == null ? null : hunksOf(changes, actual, expected);
+  }
+
+  private List<Change> changes() {
+    int prefix = 0;
+    int n = actual.size();
+    int m = expected.size();
+    while (prefix < n && prefix < m && areEqual(prefix, prefix)) {
+      prefix++;
+    }
+    while (n > prefix && m > prefix && areEqual(n - 1, m - 1)) {
+      n--;
+      m--;
+    }
+    // Myers greedy algorithm on the remaining elements, the furthest reaching paths of each number of changes are kept
+    // to find the changes back once the end is reached. Diagonal k holds the points where x - y = k, x being an index
+    // in actual and y in expected.
+    List<int[]> furthestPaths = new ArrayList<int[]>();
+    int[] previous = null;
+    for (int d = 0; d <= MAX_CHANGES; d++) {
+      int[] current = new int[2 * d + 1];
+      for (int k = -d; k <= d; k += 2) {
+        int x = d == 0 ? prefix : max(missingStart(previous, d, k, m), unexpectedStart(previous, d, k, n));
+        current[k + d] = x;
+        if (x < 0) continue;
+        int y = x - k;
+        while (x < n && y < m && areEqual(x, y)) {
+          x++;
+          y++;
+        }
+        current[k + d] = x;
+        if (x == n && y == m) {
+          furthestPaths.add(current);
+          return changesAlong(furthestPaths, n, m);
+        }
+      }
+      furthestPaths.add(current);
+      previous = current;
+    }
+    return null;
+  }
+
+  // x reached on diagonal k from the furthest point of diagonal k + 1 with d - 1 changes by an expected element
+  // missing in actual, -1 if there is no such point.
+  private static int missingStart(int[] previous, int d, int k, int m) {
+    if (k + 1 > d - 1) return -1;
+    int x = previous[k + d];
+    return x >= 0 && x - k <= m ? x : -1;
+  }
+
+  // x reached on diagonal k from the furthest point of diagonal k - 1 with d - 1 changes by an actual element not
+  // expected, -1 if there is no such point.
+  private static int unexpectedStart(int[] previous, int d, int k, int n) {
+    if (k - 1 < -(d - 1)) return -1;
+    int x = previous[k + d - 2];
+    return x >= 0 && x < n ? x + 1 : -1;
+  }
+
+  private static List<Change> changesAlong(List<int[]> furthestPaths, int n, int m) {
+    List<Change> changes = new ArrayList<Change>();
+    int x = n;
+    int y = m;
+    for (int d = furthestPaths.size() - 1; d > 0; d--) {
+      int k = x - y;
+      int[] previous = furthestPaths.get(d - 1);
+      int missingStart = missingStart(previous, d, k, m);
+      int unexpectedStart = unexpectedStart(previous, d, k, n);
+      // same choice as when the paths were computed
+      if (unexpectedStart > missingStart) {
+        x = unexpectedStart - 1;
+        y = unexpectedStart - k;
+        changes.add(new Change(x, y, false));
+      } else {
+        x = missingStart;
+        y = missingStart - k - 1;
+        changes.add(new Change(x, y, true));
+      }
+    }
+    Collections.reverse(changes);
+    return changes;
+  }
+
+  private boolean areEqual(int actualIndex, int expectedIndex) {
+    return comparisonStrategy.areEqual(actual.get(actualIndex), expected.get(expectedIndex));
+  }
+
+  private static List<Hunk> hunksOf(List<Change> changes, List<?> actual, List<?> expected) {
+    List<Hunk> hunks = new ArrayList<Hunk>();
+    Hunk hunk = null;
+    // end of the previous change in actual
+    int actualEnd = 0;
+    for (Change change : changes) {
+      int unchanged = change.actualIndex - actualEnd;
+      if (hunk == null || unchanged > 2 * CONTEXT_SIZE) {
+        if (hunk != null) hunk.addUnchanged(actual, actualEnd, actualEnd + CONTEXT_SIZE);
+        int context = min(CONTEXT_SIZE, unchanged);
+        hunk = new Hunk(change.actualIndex - context, change.expectedIndex - context);
+        hunks.add(hunk);
+        hunk.addUnchanged(actual, change.actualIndex - context, change.actualIndex);
+      } else {
+        hunk.addUnchanged(actual, actualEnd, change.actualIndex);
+      }
+      if (change.missing) {
+        hunk.add(Line.missing(expected.get(change.expectedIndex)));
+        actualEnd = change.actualIndex;
+      } else {
+        hunk.add(Line.unexpected(actual.get(change.actualIndex)));
+        actualEnd = change.actualIndex + 1;
+      }
+    }
+    if (hunk != null) hunk.addUnchanged(actual, actualEnd, actualEnd + CONTEXT_SIZE);
+    return hunks;
+  }
+
+  // an element of expected missing in actual or of actual not expected, at the given indexes of the lists
+  private static final class Change {
+
+    private final int actualIndex;
+    private final int expectedIndex;
+    private final boolean missing;
+
+    private Change(int actualIndex, int expectedIndex, boolean missing) {
+      this.actualIndex = actualIndex;
+      this.expectedIndex = expectedIndex;
+      this.missing = missing;
+    }
+  }
+
+  /**
+   * Consecutive elements of the compared lists, containing changes surrounded by unchanged elements.
+   */
+  public static final class Hunk {
+
+    private final int actualIndex;
+    private final int expectedIndex;
+    private final List<Line> lines = new ArrayList<Line>();
+
+    private Hunk(int actualIndex, int expectedIndex) {
+      this.actualIndex = actualIndex;
+      this.expectedIndex = expectedIndex;
+    }
+
+    private void add(Line line) {
+      lines.add(line);
+    }
+
+    private void addUnchanged(List<?> actual, int from, int to) {
+      for (int i = from; i < min(to, actual.size()); i++) {
+        lines.add(Line.unchanged(actual.get(i)));
+      }
+    }
+
+    /**
+     * @return the index in actual of the first element of this hunk.
+     */
+    public int getActualIndex() {
+      return actualIndex;
+    }
+
+    /**
+     * @return the index in expected of the first element of this hunk.
+     */
+    public int getExpectedIndex() {
+      return expectedIndex;
+    }
+
+    public List<Line> getLines() {
+      return lines;
+    }
+  }
+
+  /**
+   * An element of a {@link Hunk}.
+   */
+  public static final class Line {
+
+    /**
+     * Whether an element is in actual, expected or both.
+     */
+    public enum Kind {
+      UNCHANGED, MISSING, UNEXPECTED
+    }
+
+    private final Kind kind;
+    private final Object element;
+
+    private Line(Kind kind, Object element) {
+      this.kind = kind;
+      this.element = element;
+    }
+
+    private static Line unchanged(Object element) {
+      return new Line(Kind.UNCHANGED, element);
+    }
+
+    private static Line missing(Object element) {
+      return new Line(Kind.MISSING, element);
+    }
+
+    private static Line unexpected(Object element) {
+      return new Line(Kind.UNEXPECTED, element);
+    }
+
+    public Kind getKind() {
+      return kind;
+    }
+
+    public Object getElement() {
+      return element;
+    }
+  }
+
+}
@@ -57,6 +57,55 @@ public class Failures {
     this.removeAssertJRelatedElementsFromStackTrace = removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * flag indicating whether or not failures collected instead of being thrown are created without stack trace.
+   */
+  private boolean skipStackTraceOfCollectedFailures = false;
+
+  // whether the failures of the current thread are collected (e.g. by soft assertions) instead of being thrown
+  private final ThreadLocal<Boolean> collectingFailures = new ThreadLocal<Boolean>();
+
+  /**
+   * Sets whether failures collected instead of being thrown (e.g. by soft assertions) are created without filling in
+   * their stack trace.
+   * <p>
+   * This gives up the location of the failed assertions: the stack trace filled in when the failures are reported (see
+   * {@link #fillInStackTraceIfSkipped(Throwable)}) is the one of the code reporting them, not of the assertions.
+   * @param skipStackTraceOfCollectedFailures flag, default {@code false}.
+   */
+  public void setSkipStackTraceOfCollectedFailures(boolean skipStackTraceOfCollectedFailures) {
+    this.skipStackTraceOfCollectedFailures = skipStackTraceOfCollectedFailures;
+  }
+
+  /**
+   * Sets whether the failures of the current thread are collected instead of being thrown.
+   * @param collecting flag.
+   * @return whether the failures of the current thread were collected before.
+   */
+  public boolean setCollectingFailures(boolean collecting) {
+    boolean wasCollecting = collectingFailures.get() != null;
+    if (collecting) collectingFailures.set(Boolean.TRUE);
+    else collectingFailures.remove();
+    return wasCollecting;
+  }
+
+  boolean skipsStackTrace() {
+    return skipStackTraceOfCollectedFailures && collectingFailures.get() != null;
+  }
+
+  /**
+   * Captures the stack trace of the given collected failure if it was skipped when the failure was created, to be
+   * called when it is reported. The captured stack trace is the one of the caller, it does not tell where the failed
+   * assertion is.
+   * @param failure the collected failure.
+   */
+  public void fillInStackTraceIfSkipped(Throwable failure) {
+    if (failure instanceof LazyAssertionError && failure.getStackTrace().length == 0) {
+      failure.fillInStackTrace();
+      removeAssertJRelatedElementsFromStackTraceIfNeeded((AssertionError) failure);
+    }
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -87,6 +136,8 @@ public class Failures {
    * <code>{@link AssertionError}</code>, prepending the value of <code>{@link AssertionInfo#description()}</code> to the error
    * message</li>
    * </ol>
+   * The detail message is only created when it is first read, see {@link LazyAssertionError}: failures are thus
+   * instances of that internal subclass of {@code AssertionError}, not of {@code AssertionError} itself.
    * @param info contains information about the failed assertion.
    * @param message knows how to create detail messages for {@code AssertionError}s.
    * @return the created <code>{@link AssertionError}</code>.
@@ -94,7 +145,7 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory message) {
     AssertionError error = failureIfErrorMessageIsOverriden(info);
     if (error != null) return error;
-    AssertionError assertionError = new AssertionError(message.create(info.description(), info.representation()));
+    AssertionError assertionError = new LazyAssertionError(message, info.description(), info.representation());
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     return assertionError;
   }
@@ -131,7 +182,7 @@ org.junit.ComparisonFailure: expected:<'[Ronaldo]'> but was:<'[Messi]'>
   at sun.reflect.NativeConstructorAccessorImpl.newInstance(NativeConstructorAccessorImpl.java:39)
   at sun.reflect.DelegatingConstructorAccessorImpl.newInstance(DelegatingConstructorAccessorImpl.java:27)
   at java.lang.reflect.Constructor.newInstance(Constructor.java:501)
-  at org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34)
+  at org.assertj.core.error.ComparisonFailureFactory.newComparisonFailure(ComparisonFailureFactory.java:75)
   at org.assertj.core.error.ShouldBeEqual.newComparisonFailure(ShouldBeEqual.java:111)
   at org.assertj.core.error.ShouldBeEqual.comparisonFailure(ShouldBeEqual.java:103)
   at org.assertj.core.error.ShouldBeEqual.newAssertionError(ShouldBeEqual.java:81)
@@ -21,6 +21,24 @@ public class FieldByFieldComparator implements Comparator<Object> {
 	return Objects.instance().areEqualToIgnoringGivenFields(actual, other);
   }
 
+  /**
+   * Returns a hash code of the given object computed from the fields this comparator compares: objects of the same
+   * class that this comparator finds equal have the same hash code, which allows hashing elements instead of comparing
+   * them pairwise.
+   *
+   * @param object the object to hash.
+   * @return a hash code of the given object computed from the compared fields.
+   * @throws org.assertj.core.util.introspection.IntrospectionError if one of the compared field values can't be read.
+   */
+  public int hashCodeOf(Object object) {
+	if (object == null) return 0;
+	return fieldsHashCodeOf(object);
+  }
+
+  protected int fieldsHashCodeOf(Object object) {
+	return Objects.instance().hashCodeIgnoringGivenFields(object);
+  }
+
   @Override
   public String toString() {
 	return "field by field comparator on all fields";
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.List;
+
+import org.assertj.core.util.Lists;
+import org.assertj.core.util.introspection.IntrospectionError;
+
+/**
+ * Hash based index of distinct elements according to a {@link FieldByFieldComparator}, elements being hashed with
+ * {@link FieldByFieldComparator#hashCodeOf(Object)}.
+ * <p>
+ * Field hash codes are only consistent with the comparator for objects of the same class, the index is thus only built
+ * for elements of a single class; values of another class, or whose fields can't be read, are looked for by comparing
+ * them to each indexed element.
+ */
+final class FieldByFieldIndex extends HashIndex {
+
+  private final FieldByFieldComparator comparator;
+  private final Class<?> elementClass;
+
+  private FieldByFieldIndex(FieldByFieldComparator comparator, Class<?> elementClass, int expectedSize) {
+    super(expectedSize);
+    this.comparator = comparator;
+    this.elementClass = elementClass;
+  }
+
+  /**
+   * Returns an index of the distinct given elements according to the given comparator, or {@code null} if they are not
+   * all of the same class, if the fields of one of them can't be read or if the comparator is a subclass of AssertJ
+   * field by field comparators (it may override their equality but not their hash code).
+   * <p>
+   * When several elements are equal, the first one of the given array is indexed.
+   *
+   * @param elements the elements to index.
+   * @param comparator the comparator defining element equality.
+   * @return an index of the distinct given elements or {@code null} if elements can't be hashed.
+   */
+  static FieldByFieldIndex of(Object[] elements, FieldByFieldComparator comparator) {
+    if (!hashesConsistently(comparator)) return null;
+    Class<?> elementClass = elementClassOf(elements);
+    if (elementClass == null) return null;
+    FieldByFieldIndex index = new FieldByFieldIndex(comparator, elementClass, elements.length);
+    try {
+      for (Object element : elements) {
+        index.add(element);
+      }
+    } catch (IntrospectionError e) {
+      return null;
+    }
+    return index;
+  }
+
+  /**
+   * Returns the duplicate elements of the given array according to the given comparator, in the order they are found
+   * and each one only once, or {@code null} if elements can't be hashed (see {@link #of(Object[], FieldByFieldComparator)}).
+   *
+   * @param elements the elements to look for duplicates in.
+   * @param comparator the comparator defining element equality.
+   * @return the duplicate elements of the given array or {@code null} if elements can't be hashed.
+   */
+  static List<Object> duplicatesFrom(Object[] elements, FieldByFieldComparator comparator) {
+    FieldByFieldIndex index = of(elements, comparator);
+    if (index == null) return null;
+    int[] occurrences = new int[index.size()];
+    List<Object> duplicates = Lists.newArrayList();
+    for (Object element : elements) {
+      if (++occurrences[index.indexOf(element)] == 2) duplicates.add(element);
+    }
+    return duplicates;
+  }
+
+  private static boolean hashesConsistently(FieldByFieldComparator comparator) {
+    Class<?> comparatorClass = comparator.getClass();
+    return comparatorClass == FieldByFieldComparator.class || comparatorClass == OnFieldsComparator.class
+           || comparatorClass == IgnoringFieldsComparator.class;
+  }
+
+  // the class shared by all non null elements, Object if there are only nulls, null if there are several classes.
+  private static Class<?> elementClassOf(Object[] elements) {
+    Class<?> elementClass = null;
+    for (Object element : elements) {
+      if (element == null) continue;
+      if (elementClass == null) elementClass = element.getClass();
+      else if (element.getClass() != elementClass) return null;
+    }
+    return elementClass == null ? Object.class : elementClass;
+  }
+
+  @Override
+  public int indexOf(Object value) {
+    if (value == null || value.getClass() == elementClass) {
+      try {
+        return super.indexOf(value);
+      } catch (IntrospectionError e) {
+        // value fields can't be hashed, compare it to each element as below.
+      }
+    }
+    for (int id = 0; id < size(); id++) {
+      if (elementsAreEqual(get(id), value)) return id;
+    }
+    return NOT_FOUND;
+  }
+
+  @Override
+  int elementHashCode(Object element) {
+    return comparator.hashCodeOf(element);
+  }
+
+  @Override
+  boolean elementsAreEqual(Object element, Object value) {
+    return comparator.compare(element, value) == 0;
+  }
+
+}
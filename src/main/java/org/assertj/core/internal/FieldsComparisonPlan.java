@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.Arrays.asList;
+import static org.assertj.core.util.Maps.newConcurrentHashMap;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.core.util.introspection.Accessors.accessorFor;
+import static org.assertj.core.util.introspection.Introspection.findProperty;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import org.assertj.core.util.introspection.Accessor;
+import org.assertj.core.util.introspection.IntrospectionError;
+
+/**
+ * The fields of a class compared by field by field comparisons, ignoring some of them, resolved once per class and set
+ * of ignored fields.
+ * <p>
+ * The fields are those declared by the class and its superclasses up to the first one in <code>java.lang</code>. A field
+ * is read directly if it is accessible, else through the getter of the property with the same name; fields that are
+ * neither accessible nor properties are not compared.
+ */
+final class FieldsComparisonPlan {
+
+  // plans of each class by ignored field names, see Accessors for why they are stored in a ClassValue.
+  private static final ClassValue<ConcurrentMap<List<String>, FieldsComparisonPlan>> PLANS = new ClassValue<ConcurrentMap<List<String>, FieldsComparisonPlan>>() {
+    @Override
+    protected ConcurrentMap<List<String>, FieldsComparisonPlan> computeValue(Class<?> type) {
+      return newConcurrentHashMap();
+    }
+  };
+
+  private final ComparedField[] fields;
+
+  private FieldsComparisonPlan(ComparedField[] fields) {
+    this.fields = fields;
+  }
+
+  /**
+   * Returns the plan comparing the fields of the class of the given object but the ignored ones.
+   *
+   * @param actual the object whose class fields are compared, used to find out which fields are accessible.
+   * @param ignoredFields the names of the fields not to compare.
+   * @return the plan comparing the fields of the class of the given object but the ignored ones.
+   * @throws IllegalArgumentException if one of the ignored fields is not a field of the class of the given object.
+   */
+  static FieldsComparisonPlan ignoringFields(Object actual, String... ignoredFields) {
+    ConcurrentMap<List<String>, FieldsComparisonPlan> plans = PLANS.get(actual.getClass());
+    FieldsComparisonPlan plan = plans.get(asList(ignoredFields));
+    if (plan == null) {
+      plan = new FieldsComparisonPlan(comparedFields(actual, ignoredFields));
+      // copied as the given array could be changed afterwards
+      plans.put(asList(ignoredFields.clone()), plan);
+    }
+    return plan;
+  }
+
+  private static ComparedField[] comparedFields(Object actual, String[] ignoredFields) {
+    List<Field> declaredFields = declaredFieldsIncludingInherited(actual.getClass());
+    verifyIgnoredFieldsExist(actual, declaredFields, ignoredFields);
+    Set<String> ignoredFieldNames = newLinkedHashSet(ignoredFields);
+    List<ComparedField> comparedFields = new ArrayList<ComparedField>();
+    for (Field field : declaredFields) {
+      if (ignoredFieldNames.contains(field.getName())) continue;
+      ComparedField comparedField = comparedField(actual, field);
+      if (comparedField != null) comparedFields.add(comparedField);
+    }
+    return comparedFields.toArray(new ComparedField[comparedFields.size()]);
+  }
+
+  // accessibility does not depend on the instance, reading the field once tells whether it is accessible from here.
+  private static ComparedField comparedField(Object actual, Field field) {
+    try {
+      field.get(actual);
+      return new FieldValue(field);
+    } catch (IllegalAccessException e) {
+      // field is not accessible, let's get its value from its getter if any.
+      PropertyDescriptor property = findProperty(field.getName(), actual.getClass());
+      return property == null || property.getReadMethod() == null ? null : new PropertyValue(property);
+    }
+  }
+
+  private static void verifyIgnoredFieldsExist(Object actual, List<Field> declaredFields, String[] ignoredFields) {
+    Set<String> ignoredFieldsNotDefined = newLinkedHashSet(ignoredFields);
+    for (Field f : declaredFields) {
+      ignoredFieldsNotDefined.remove(f.getName());
+    }
+    if (!ignoredFieldsNotDefined.isEmpty()) {
+      throw new IllegalArgumentException(format("Fields to ignore <%s> not defined for type <%s>",
+                                                ignoredFieldsNotDefined, actual.getClass().getCanonicalName()));
+    }
+  }
+
+  /**
+   * Returns the declared fields of given class and its superclasses stopping at superclass in <code>java.lang</code>
+   * package whose fields are not included.
+   *
+   * @param clazz the class we want the declared fields.
+   * @return the declared fields of given class and its superclasses.
+   */
+  private static List<Field> declaredFieldsIncludingInherited(Class<?> clazz) {
+    if (clazz == null) throw new NullPointerException("expecting Class parameter not to be null");
+    List<Field> declaredFields = new ArrayList<Field>(asList(clazz.getDeclaredFields()));
+    // get fields declared in superclass
+    Class<?> superclazz = clazz.getSuperclass();
+    while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
+      declaredFields.addAll(asList(superclazz.getDeclaredFields()));
+      superclazz = superclazz.getSuperclass();
+    }
+    return declaredFields;
+  }
+
+  /**
+   * Returns the number of compared fields.
+   *
+   * @return the number of compared fields.
+   */
+  int size() {
+    return fields.length;
+  }
+
+  /**
+   * Returns the name of the compared field at the given index.
+   *
+   * @param index the index of the compared field.
+   * @return the name of the compared field at the given index.
+   */
+  String name(int index) {
+    return fields[index].name;
+  }
+
+  /**
+   * Returns the value of the compared field at the given index in the given object.
+   *
+   * @param index the index of the compared field.
+   * @param target the object to read the field value from.
+   * @return the value of the compared field at the given index in the given object.
+   * @throws IntrospectionError if the field value can't be read.
+   */
+  Object valueOf(int index, Object target) {
+    return fields[index].valueOf(target);
+  }
+
+  private abstract static class ComparedField {
+
+    final String name;
+
+    ComparedField(String name) {
+      this.name = name;
+    }
+
+    abstract Object valueOf(Object target);
+  }
+
+  private static final class FieldValue extends ComparedField {
+
+    private final Field field;
+    // public fields of public classes are compiled, others are only accessible from here and are read by reflection.
+    private final Accessor accessor;
+
+    FieldValue(Field field) {
+      super(field.getName());
+      this.field = field;
+      boolean compilable = isPublic(field.getModifiers()) && isPublic(field.getDeclaringClass().getModifiers());
+      accessor = compilable ? accessorFor(field) : null;
+    }
+
+    @Override
+    Object valueOf(Object target) {
+      try {
+        // objects of other classes are read by reflection, which reports that they don't have the field
+        if (accessor == null || !field.getDeclaringClass().isInstance(target)) return field.get(target);
+        return accessor.read(target);
+      } catch (IllegalAccessException e) {
+        throw fieldValueError(target, e);
+      } catch (InvocationTargetException e) {
+        throw fieldValueError(target, e);
+      }
+    }
+
+    private IntrospectionError fieldValueError(Object target, Exception cause) {
+      return new IntrospectionError(format("Unable to obtain the value of the field <'%s'> from <%s>", name, target), cause);
+    }
+  }
+
+  private static final class PropertyValue extends ComparedField {
+
+    private final PropertyDescriptor property;
+
+    PropertyValue(PropertyDescriptor property) {
+      super(property.getName());
+      this.property = property;
+    }
+
+    @Override
+    Object valueOf(Object target) {
+      PropertySupport propertySupport = PropertySupport.instance();
+      // objects of other classes are introspected as they may not have the same property
+      if (!property.getReadMethod().getDeclaringClass().isInstance(target)) {
+        return propertySupport.propertyValue(name, Object.class, target);
+      }
+      return propertySupport.readProperty(name, property, Object.class, target);
+    }
+  }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Objects.areEqual;
+import static org.assertj.core.util.Objects.hashCodeFor;
+
+import java.util.Collection;
+
+/**
+ * Hash based index of distinct elements according to {@link StandardComparisonStrategy}, that is
+ * {@link org.assertj.core.util.Objects#areEqual(Object, Object)} and
+ * {@link org.assertj.core.util.Objects#hashCodeFor(Object)}.
+ * <p>
+ * Unlike a {@link java.util.HashSet}, arrays are indexed by content and null is a regular element. The id of each
+ * distinct element is its insertion rank.
+ * <p>
+ * Lookups are O(1) (assuming a reasonable hash code distribution), this is what makes {@link Iterables} containment
+ * assertions O(n+m) instead of O(n·m) with the standard comparison strategy.
+ * <p>
+ * Subclasses can index elements according to another equality by overriding {@link #elementHashCode(Object)} and
+ * {@link #elementsAreEqual(Object, Object)} consistently.
+ */
+class HashIndex implements ElementIndex {
+
+  private static final int MINIMUM_CAPACITY = 8;
+
+  private Object[] elements;
+  private int[] hashes;
+  // next entry in the same bucket
+  private int[] next;
+  // first entry of each bucket
+  private int[] buckets;
+  private int size;
+
+  HashIndex(int expectedSize) {
+    int capacity = MINIMUM_CAPACITY;
+    while (capacity < expectedSize) {
+      capacity <<= 1;
+    }
+    elements = new Object[capacity];
+    hashes = new int[capacity];
+    next = new int[capacity];
+    buckets = newBuckets(capacity * 2);
+  }
+
+  /**
+   * Returns an index of the distinct elements of the given {@link Iterable}.
+   *
+   * @param iterable the elements to index.
+   * @return an index of the distinct elements of the given {@link Iterable}.
+   */
+  static HashIndex of(Iterable<?> iterable) {
+    HashIndex index = new HashIndex(iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0);
+    for (Object element : iterable) {
+      index.add(element);
+    }
+    return index;
+  }
+
+  /**
+   * Returns an index of the distinct given elements.
+   *
+   * @param elements the elements to index.
+   * @return an index of the distinct given elements.
+   */
+  static HashIndex of(Object[] elements) {
+    HashIndex index = new HashIndex(elements.length);
+    for (Object element : elements) {
+      index.add(element);
+    }
+    return index;
+  }
+
+  /**
+   * Returns which of the given values are contained in the given {@link Iterable}, the index being built over the
+   * smallest group when the size of the {@link Iterable} is known.
+   *
+   * @param iterable the {@link Iterable} to look values in.
+   * @param values the values to look for.
+   * @return an array telling for each value (at the same position) whether it is contained in the {@link Iterable}.
+   */
+  static boolean[] contained(Iterable<?> iterable, Object[] values) {
+    boolean[] contained = new boolean[values.length];
+    if (iterable instanceof Collection && ((Collection<?>) iterable).size() > values.length) {
+      // index values and look for them while scanning the iterable, stopping as soon as all of them are found.
+      HashIndex valuesIndex = of(values);
+      boolean[] found = new boolean[valuesIndex.size()];
+      int foundCount = 0;
+      for (Object element : iterable) {
+        int id = valuesIndex.indexOf(element);
+        if (id == NOT_FOUND || found[id]) continue;
+        found[id] = true;
+        if (++foundCount == found.length) break;
+      }
+      for (int i = 0; i < values.length; i++) {
+        contained[i] = found[valuesIndex.indexOf(values[i])];
+      }
+      return contained;
+    }
+    HashIndex iterableIndex = of(iterable);
+    for (int i = 0; i < values.length; i++) {
+      contained[i] = iterableIndex.contains(values[i]);
+    }
+    return contained;
+  }
+
+  /**
+   * Adds the given element to this index if it does not already contain an equal element.
+   *
+   * @param element the element to add.
+   * @return {@code true} if the element has been added, {@code false} if an equal element was already indexed.
+   */
+  boolean add(Object element) {
+    int hash = elementHashCode(element);
+    if (indexOf(element, hash) != NOT_FOUND) return false;
+    if (size == elements.length) grow();
+    elements[size] = element;
+    hashes[size] = hash;
+    int bucket = bucketOf(hash, buckets.length);
+    next[size] = buckets[bucket];
+    buckets[bucket] = size;
+    size++;
+    return true;
+  }
+
+  @Override
+  public int indexOf(Object value) {
+    return indexOf(value, elementHashCode(value));
+  }
+
+  @Override
+  public boolean contains(Object value) {
+    return indexOf(value) != NOT_FOUND;
+  }
+
+  @Override
+  public Object get(int id) {
+    return elements[id];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private int indexOf(Object value, int hash) {
+    for (int id = buckets[bucketOf(hash, buckets.length)]; id != NOT_FOUND; id = next[id]) {
+      if (hashes[id] == hash && elementsAreEqual(elements[id], value)) return id;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Returns the hash code of the given element, equal elements must have the same hash code.
+   *
+   * @param element the element to hash, may be null.
+   * @return the hash code of the given element.
+   */
+  int elementHashCode(Object element) {
+    return hashCodeFor(element);
+  }
+
+  /**
+   * Returns true if the given indexed element and value are equal.
+   *
+   * @param element the indexed element, may be null.
+   * @param value the value looked for, may be null.
+   * @return true if the given indexed element and value are equal.
+   */
+  boolean elementsAreEqual(Object element, Object value) {
+    return areEqual(element, value);
+  }
+
+  private void grow() {
+    int capacity = elements.length * 2;
+    elements = java.util.Arrays.copyOf(elements, capacity);
+    hashes = java.util.Arrays.copyOf(hashes, capacity);
+    next = java.util.Arrays.copyOf(next, capacity);
+    buckets = newBuckets(capacity * 2);
+    for (int id = 0; id < size; id++) {
+      int bucket = bucketOf(hashes[id], buckets.length);
+      next[id] = buckets[bucket];
+      buckets[bucket] = id;
+    }
+  }
+
+  private static int[] newBuckets(int count) {
+    int[] buckets = new int[count];
+    java.util.Arrays.fill(buckets, NOT_FOUND);
+    return buckets;
+  }
+
+  private static int bucketOf(int hash, int bucketCount) {
+    // spread high bits as HashMap does, bucketCount is a power of two.
+    return (hash ^ (hash >>> 16)) & (bucketCount - 1);
+  }
+
+}
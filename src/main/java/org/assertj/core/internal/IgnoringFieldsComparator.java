@@ -21,6 +21,11 @@ public class IgnoringFieldsComparator extends FieldByFieldComparator {
   protected boolean areEqual(Object actualElement, Object otherElement) {
     return Objects.instance().areEqualToIgnoringGivenFields(actualElement, otherElement, fields);
   }
+
+  @Override
+  protected int fieldsHashCodeOf(Object element) {
+	return Objects.instance().hashCodeIgnoringGivenFields(element, fields);
+  }
   
   @Override
   public String toString() {
@@ -218,9 +218,10 @@ public class Iterables {
 
   private void assertIterableContainsGivenValues(Iterable<?> actual, Object[] values, AssertionInfo info) {
     Set<Object> notFound = new LinkedHashSet<Object>();
-    for (Object value : values) {
-      if (!iterableContains(actual, value)) {
-        notFound.add(value);
+    boolean[] contained = valuesContainedIn(actual, values);
+    for (int i = 0; i < values.length; i++) {
+      if (!contained[i]) {
+        notFound.add(values[i]);
       }
     }
     if (notFound.isEmpty())
@@ -228,6 +229,29 @@ public class Iterables {
     throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
   }
 
+  /**
+   * Returns for each given value whether it is contained in actual, uses an {@link ElementIndex} when the comparison
+   * strategy allows it to avoid looking for each value in the whole actual {@code Iterable}.
+   */
+  private boolean[] valuesContainedIn(Iterable<?> actual, Object[] values) {
+    if (comparisonStrategy.isStandard()) {
+      return HashIndex.contained(actual, values);
+    }
+    boolean[] contained = new boolean[values.length];
+    ElementIndex actualIndex = indexOf(newArrayList(actual).toArray());
+    for (int i = 0; i < values.length; i++) {
+      contained[i] = actualIndex == null ? iterableContains(actual, values[i]) : actualIndex.contains(values[i]);
+    }
+    return contained;
+  }
+
+  /**
+   * Delegates to {@link ElementIndexes#indexOf(Object[], ComparisonStrategy)}
+   */
+  private ElementIndex indexOf(Object[] elements) {
+    return ElementIndexes.indexOf(elements, comparisonStrategy);
+  }
+
   /**
    * Delegates to {@link ComparisonStrategy#iterableContains(Iterable, Object)}
    */
@@ -268,6 +292,17 @@ public class Iterables {
 
   private Set<Object> containsOnly(Set<Object> actual, Object[] values) {
     Set<Object> notFound = new LinkedHashSet<Object>();
+    ElementIndex actualIndex = indexOf(actual.toArray());
+    if (actualIndex != null) {
+      // actual has no duplicates, removing the indexed element is enough to remove every element equal to o.
+      for (Object o : set(values)) {
+        int id = actualIndex.indexOf(o);
+        if (id == ElementIndex.NOT_FOUND || !actual.remove(actualIndex.get(id))) {
+          notFound.add(o);
+        }
+      }
+      return notFound;
+    }
     for (Object o : set(values)) {
       if (iterableContains(actual, o)) {
         iterableRemoves(actual, o);
@@ -289,6 +324,19 @@ public class Iterables {
       return null;
     }
     Set<Object> set = new HashSet<Object>();
+    ElementIndex index = indexOf(elements);
+    if (index != null) {
+      // only add the first of equal elements
+      boolean[] added = new boolean[index.size()];
+      for (Object e : elements) {
+        int id = index.indexOf(e);
+        if (!added[id]) {
+          added[id] = true;
+          set.add(e);
+        }
+      }
+      return set;
+    }
     for (Object e : elements) {
       // only add is not already there
       if (!iterableContains(set, e)) {
@@ -308,14 +356,7 @@ public class Iterables {
     if (iterable == null) {
       return null;
     }
-    Set<Object> set = new HashSet<Object>();
-    for (Object e : iterable) {
-      // only add is not already there
-      if (!iterableContains(set, e)) {
-        set.add(e);
-      }
-    }
-    return set;
+    return set(newArrayList(iterable).toArray());
   }
 
   /**
@@ -337,10 +378,13 @@ public class Iterables {
     Set<Object> notFound = new LinkedHashSet<Object>();
     Set<Object> notOnlyOnce = new LinkedHashSet<Object>();
     Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(actual);
-    for (Object expectedOnlyOnce : values) {
-      if (!iterableContains(actual, expectedOnlyOnce)) {
+    boolean[] contained = valuesContainedIn(actual, values);
+    boolean[] duplicated = valuesContainedIn(actualDuplicates, values);
+    for (int i = 0; i < values.length; i++) {
+      Object expectedOnlyOnce = values[i];
+      if (!contained[i]) {
         notFound.add(expectedOnlyOnce);
-      } else if (iterableContains(actualDuplicates, expectedOnlyOnce)) {
+      } else if (duplicated[i]) {
         notOnlyOnce.add(expectedOnlyOnce);
       }
     }
@@ -365,13 +409,9 @@ public class Iterables {
   public void assertContainsSequence(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, sequence))
       return;
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int i = 0; i < actualAsList.size(); i++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, i)) {
-        return;
-      }
+    // actual elements are read once without being copied.
+    if (new SequenceMatcher(sequence, comparisonStrategy).isFoundIn(actual)) {
+      return;
     }
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
@@ -425,8 +465,11 @@ public class Iterables {
     assertNotNull(info, actual);
     checkNotNull(info, values);
     List<Object> extra = newArrayList();
+    ElementIndex valuesIndex = indexOf(newArrayList(values).toArray());
     for (Object actualElement : actual) {
-      if (!iterableContains(values, actualElement)) {
+      boolean contained = valuesIndex == null ? iterableContains(values, actualElement)
+          : valuesIndex.contains(actualElement);
+      if (!contained) {
         extra.add(actualElement);
       }
     }
@@ -445,27 +488,6 @@ public class Iterables {
     return failures.failure(info, shouldBeSubsetOf(actual, set, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   * 
-   * @param actualAsList the list to look sequance in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) {
-      return false;
-    }
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) {
-        return false;
-      }
-    }
-    return true;
-  }
-
   /**
    * Delegates to {@link ComparisonStrategy#areEqual(Object, Object)}
    */
@@ -496,9 +518,10 @@ public class Iterables {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
     Set<Object> found = new LinkedHashSet<Object>();
-    for (Object o : values) {
-      if (iterableContains(actual, o)) {
-        found.add(o);
+    boolean[] contained = valuesContainedIn(actual, values);
+    for (int i = 0; i < values.length; i++) {
+      if (contained[i]) {
+        found.add(values[i]);
       }
     }
     if (found.isEmpty()) {
@@ -14,6 +14,8 @@
  */
 package org.assertj.core.internal;
 
+import static org.assertj.core.util.introspection.Accessors.accessorFor;
+
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -27,7 +29,7 @@ class JavaBeanDescriptor {
 
   Object invokeReadMethod(PropertyDescriptor d, Object o) throws IllegalAccessException, InvocationTargetException {
     Method readMethod = d.getReadMethod();
-    readMethod.setAccessible(true);
-    return readMethod.invoke(o);
+    if (!readMethod.isAccessible()) readMethod.setAccessible(true);
+    return accessorFor(readMethod).read(o);
   }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+
+/**
+ * An {@link AssertionError} whose message is only created by its {@link ErrorMessageFactory} when it is first read,
+ * failures that are caught and discarded (e.g. when polling until an assertion succeeds) don't pay for formatting the
+ * values they report.
+ * <p>
+ * The values are thus formatted with their state at the time the message is read, not at the time of the failure,
+ * failures collected to be reported later (e.g. by soft assertions) must read their message when they are collected.
+ * Values whose {@code toString} throws an exception are only detected when the message is read: the message then only
+ * tells it could not be created, the exception being added as a suppressed one.
+ * <p>
+ * The class of the error is this internal class, not {@link AssertionError} itself, though it is reported as one by
+ * {@link #toString()}.
+ */
+final class LazyAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  // released once the message is created
+  private transient ErrorMessageFactory messageFactory;
+  private transient Description description;
+  private transient Representation representation;
+  private volatile String message;
+
+  LazyAssertionError(ErrorMessageFactory messageFactory, Description description, Representation representation) {
+    this.messageFactory = messageFactory;
+    this.description = description;
+    this.representation = representation;
+  }
+
+  @Override
+  public String getMessage() {
+    String message = this.message;
+    if (message == null) {
+      synchronized (this) {
+        message = this.message;
+        if (message == null) {
+          try {
+            message = messageFactory.create(description, representation);
+          } catch (RuntimeException e) {
+            // e.g. thrown by the toString method of a value, the failure is still reported
+            message = "The message of the assertion error could not be created: " + e;
+            addSuppressed(e);
+          }
+          this.message = message;
+          messageFactory = null;
+          description = null;
+          representation = null;
+        }
+      }
+    }
+    return message;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    // see Failures#setSkipStackTraceOfCollectedFailures
+    return Failures.instance().skipsStackTrace() ? this : super.fillInStackTrace();
+  }
+
+  @Override
+  public String toString() {
+    // reported as a plain AssertionError
+    return AssertionError.class.getName() + ": " + getLocalizedMessage();
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    // the message factory is not serializable
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+}
@@ -16,6 +16,8 @@ package org.assertj.core.internal;
 
 import static java.lang.String.format;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+import static org.assertj.core.error.ShouldBeEqualByComparingFieldByFieldRecursively.shouldBeEqualByComparingFieldByFieldRecursively;
+import static org.assertj.core.error.ShouldBeEqualByteArrays.shouldBeEqualByteArrays;
 import static org.assertj.core.error.ShouldBeEqualByComparingOnlyGivenFields.shouldBeEqualComparingOnlyGivenFields;
 import static org.assertj.core.error.ShouldBeEqualToIgnoringFields.shouldBeEqualToIgnoringGivenFields;
 import static org.assertj.core.error.ShouldBeExactlyInstanceOf.shouldBeExactlyInstance;
@@ -36,22 +38,21 @@ import static org.assertj.core.error.ShouldNotBeOfClassIn.shouldNotBeOfClassIn;
 import static org.assertj.core.error.ShouldNotBeSame.shouldNotBeSame;
 import static org.assertj.core.error.ShouldNotHaveSameClass.shouldNotHaveSameClass;
 import static org.assertj.core.internal.CommonValidations.checkTypeIsNotNull;
+import static org.assertj.core.internal.DeepDifference.determineDifferences;
 import static org.assertj.core.util.Lists.newArrayList;
-import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.core.util.introspection.PropertyPath.NOT_FOUND;
+import static org.assertj.core.util.introspection.PropertyPath.compile;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DeepDifference.Difference;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.IntrospectionError;
+import org.assertj.core.util.introspection.PropertyPath;
 
 /**
  * Reusable assertions for {@code Object}s.
@@ -64,6 +65,8 @@ import org.assertj.core.util.introspection.IntrospectionError;
 public class Objects {
 
   private static final Objects INSTANCE = new Objects();
+  // longer byte arrays are not fully rendered in equality failures, only the bytes around their first difference are.
+  private static final int FULLY_RENDERED_BYTE_ARRAY_MAX_LENGTH = 64;
   @VisibleForTesting
   final PropertySupport propertySupport = PropertySupport.instance();
   private final ComparisonStrategy comparisonStrategy;
@@ -316,9 +319,17 @@ public class Objects {
 	if (areEqual(actual, expected)) {
 	  return;
 	}
+	if (areLargeByteArrays(actual, expected) && comparisonStrategy.isStandard()) {
+	  throw failures.failure(info, shouldBeEqualByteArrays((byte[]) actual, (byte[]) expected));
+	}
 	throw failures.failure(info, shouldBeEqual(actual, expected, comparisonStrategy, info.representation()));
   }
 
+  private static boolean areLargeByteArrays(Object actual, Object expected) {
+	return actual instanceof byte[] && expected instanceof byte[]
+	       && Math.max(((byte[]) actual).length, ((byte[]) expected).length) > FULLY_RENDERED_BYTE_ARRAY_MAX_LENGTH;
+  }
+
   /**
    * Asserts that two objects are not equal.
    *
@@ -535,19 +546,20 @@ public class Objects {
   public <A> void assertIsLenientEqualsToIgnoringNullFields(AssertionInfo info, A actual, A other) {
 	assertNotNull(info, actual);
 	assertOtherTypeIsCompatibleWithActualClass(info, other, actual.getClass());
-	List<String> fieldsNames = new LinkedList<String>();
-	List<Object> rejectedValues = new LinkedList<Object>();
-	List<Object> expectedValues = new LinkedList<Object>();
-	List<String> nullFields = new LinkedList<String>();
-	for (Field field : getDeclaredFieldsIncludingInherited(actual.getClass())) {
+	List<String> fieldsNames = new ArrayList<String>();
+	List<Object> rejectedValues = new ArrayList<Object>();
+	List<Object> expectedValues = new ArrayList<Object>();
+	List<String> nullFields = new ArrayList<String>();
+	FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(actual);
+	for (int i = 0; i < plan.size(); i++) {
 	  try {
-		Object otherFieldValue = getFieldOrPropertyValue(other, field);
+		Object otherFieldValue = plan.valueOf(i, other);
 		if (otherFieldValue == null) {
-		  nullFields.add(field.getName());
+		  nullFields.add(plan.name(i));
 		} else {
-		  Object actualFieldValue = getFieldOrPropertyValue(actual, field);
+		  Object actualFieldValue = plan.valueOf(i, actual);
 		  if (!otherFieldValue.equals(actualFieldValue)) {
-			fieldsNames.add(field.getName());
+			fieldsNames.add(plan.name(i));
 			rejectedValues.add(actualFieldValue);
 			expectedValues.add(otherFieldValue);
 		  }
@@ -577,7 +589,7 @@ public class Objects {
   public <A> void assertIsEqualToComparingOnlyGivenFields(AssertionInfo info, A actual, A other, String... fields) {
 	assertNotNull(info, actual);
 	assertOtherTypeIsCompatibleWithActualClass(info, other, actual.getClass());
-	ByFieldsComparison byFieldsComparison = isEqualToComparingOnlyGivenFields(actual, other, fields);
+	ByFieldsComparison byFieldsComparison = isEqualToComparingOnlyGivenFields(actual, other, compileAll(fields));
 	if (byFieldsComparison.isFieldsNamesNotEmpty())
 	  throw failures.failure(info, shouldBeEqualComparingOnlyGivenFields(actual, byFieldsComparison.fieldsNames,
 	                                                                     byFieldsComparison.rejectedValues,
@@ -585,20 +597,30 @@ public class Objects {
 	                                                                     newArrayList(fields)));
   }
 
-  private <A> ByFieldsComparison isEqualToComparingOnlyGivenFields(A actual, A other, String[] fields) {
-	List<String> rejectedFieldsNames = new LinkedList<String>();
-	List<Object> expectedValues = new LinkedList<Object>();
-	List<Object> rejectedValues = new LinkedList<Object>();
-	for (String fieldName : fields) {
-	  Object actualFieldValue = getNestedFieldOrPropertyValue(actual, fieldName);
-	  Object otherFieldValue = getNestedFieldOrPropertyValue(other, fieldName);
+  private <A> ByFieldsComparison isEqualToComparingOnlyGivenFields(A actual, A other, PropertyPath[] fields) {
+	ByFieldsComparison byFieldsComparison = new ByFieldsComparison();
+	for (PropertyPath field : fields) {
+	  Object actualFieldValue = getNestedFieldOrPropertyValue(actual, field);
+	  Object otherFieldValue = getNestedFieldOrPropertyValue(other, field);
 	  if (!org.assertj.core.util.Objects.areEqual(actualFieldValue, otherFieldValue)) {
-		rejectedFieldsNames.add(fieldName);
-		expectedValues.add(otherFieldValue);
-		rejectedValues.add(actualFieldValue);
+		byFieldsComparison.addDifference(field.toString(), actualFieldValue, otherFieldValue);
 	  }
 	}
-	return new ByFieldsComparison(rejectedFieldsNames, expectedValues, rejectedValues);
+	return byFieldsComparison;
+  }
+
+  /**
+   * Compiles the given possibly nested field names, to read them from several objects.
+   *
+   * @param fields the field names.
+   * @return the compiled field names.
+   */
+  static PropertyPath[] compileAll(String... fields) {
+	PropertyPath[] paths = new PropertyPath[fields.length];
+	for (int i = 0; i < fields.length; i++) {
+	  paths[i] = compile(fields[i]);
+	}
+	return paths;
   }
 
   /**
@@ -625,59 +647,40 @@ public class Objects {
 	                                                                  newArrayList(fields)));
   }
 
+  /**
+   * Assert that the given object is equal to the other by comparing their fields recursively (including inherited
+   * fields), see {@link DeepDifference} for how values are compared.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given object.
+   * @param other the object to compare {@code actual} to.
+   * @throws AssertionError if actual is {@code null}.
+   * @throws AssertionError if the other object is not an instance of the actual type.
+   * @throws AssertionError if the actual and the given object graphs differ.
+   */
+  public <A> void assertIsEqualToComparingFieldByFieldRecursively(AssertionInfo info, A actual, A other) {
+	assertNotNull(info, actual);
+	assertOtherTypeIsCompatibleWithActualClass(info, other, actual.getClass());
+	List<Difference> differences = determineDifferences(actual, other);
+	if (!differences.isEmpty())
+	  throw failures.failure(info, shouldBeEqualByComparingFieldByFieldRecursively(actual, other, differences));
+  }
+
   private <A> ByFieldsComparison isEqualToIgnoringGivenFields(A actual, A other, String[] givenIgnoredFields) {
-	Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
-	verifyIgnoredFieldsExist(actual, declaredFieldsIncludingInherited, givenIgnoredFields);
-	List<String> fieldsNames = new LinkedList<String>();
-	List<Object> expectedValues = new LinkedList<Object>();
-	List<Object> rejectedValues = new LinkedList<Object>();
-	Set<String> ignoredFields = newLinkedHashSet(givenIgnoredFields);
-	for (Field field : declaredFieldsIncludingInherited) {
+	ByFieldsComparison byFieldsComparison = new ByFieldsComparison();
+	FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(actual, givenIgnoredFields);
+	for (int i = 0; i < plan.size(); i++) {
 	  try {
-		if (!ignoredFields.contains(field.getName())) {
-		  Object actualFieldValue = getFieldOrPropertyValue(actual, field);
-		  Object otherFieldValue = getFieldOrPropertyValue(other, field);
-		  if (!org.assertj.core.util.Objects.areEqual(actualFieldValue, otherFieldValue)) {
-			fieldsNames.add(field.getName());
-			rejectedValues.add(actualFieldValue);
-			expectedValues.add(otherFieldValue);
-		  }
+		Object actualFieldValue = plan.valueOf(i, actual);
+		Object otherFieldValue = plan.valueOf(i, other);
+		if (!org.assertj.core.util.Objects.areEqual(actualFieldValue, otherFieldValue)) {
+		  byFieldsComparison.addDifference(plan.name(i), actualFieldValue, otherFieldValue);
 		}
 	  } catch (IntrospectionError e) {
 		// Not readable field, skip.
 	  }
 	}
-	return new ByFieldsComparison(fieldsNames, expectedValues, rejectedValues);
-  }
-
-  private <A> void verifyIgnoredFieldsExist(A actual, Set<Field> declaredFields, String[] ignoredFields) {
-	Set<String> ignoredFieldsNotDefined = newLinkedHashSet(ignoredFields);
-	for (Field f : declaredFields) {
-	  ignoredFieldsNotDefined.remove(f.getName());
-	}
-	if (!ignoredFieldsNotDefined.isEmpty()) {
-	  throw new IllegalArgumentException(format("Fields to ignore <%s> not defined for type <%s>",
-	                                            ignoredFieldsNotDefined, actual.getClass().getCanonicalName()));
-	}
-  }
-
-  /**
-   * Get field value first and in case of error try its value from property getter (property name being field name)
-   *
-   * @param a the object to get field value from
-   * @param field Field to read
-   * @param <A> the type of object a
-   * @return field value or property value if field was not accessible.
-   * @throws IntrospectionError is field value can't get retrieved.
-   */
-  private <A> Object getFieldOrPropertyValue(A a, Field field) {
-	try {
-	  // read field value
-	  return field.get(a);
-	} catch (IllegalAccessException e) {
-	  // field is not accessible, let's try to get its value from its getter if any.
-	  return propertySupport.propertyValue(field.getName(), Object.class, a);
-	}
+	return byFieldsComparison;
   }
 
   /**
@@ -685,43 +688,28 @@ public class Objects {
    * name)
    *
    * @param a the object to get field value from
-   * @param fieldName Field name to read, can be nested
+   * @param fieldName compiled Field name to read, can be nested
    * @return (nested) field value or property value if field was not accessible.
    * @throws IntrospectionError is field value can't get retrieved.
    */
-  private <A> Object getNestedFieldOrPropertyValue(A a, String fieldName) {
+  private <A> Object getNestedFieldOrPropertyValue(A a, PropertyPath fieldName) {
+	// fields and properties are looked up without exceptions, only existing ones that can't be read throw one.
 	try {
-	  return fieldSupport.fieldValue(fieldName, Object.class, a);
+	  Object fieldValue = fieldSupport.findFieldValue(fieldName, a);
+	  if (fieldValue != NOT_FOUND) return fieldValue;
 	} catch (IntrospectionError e) {
-	  try {
-		// field is not accessible, let's try to get its value from its getter if any.
-		return propertySupport.propertyValueOf(fieldName, Object.class, a);
-	  } catch (IntrospectionError e2) {
-		// this time, we really fail
-		String msg = format("Unable to obtain the value of <'%s'> field/property from <%s>, expecting a public field or getter",
-		                    fieldName, a);
-		throw new IntrospectionError(msg);
-	  }
+	  // field can't be read, let's try to get its value from its getter if any.
 	}
-  }
-
-  /**
-   * Returns the declared fields of given class and its superclasses stopping at superclass in <code>java.lang</code>
-   * package whose fields are not included.
-   *
-   * @param clazz the class we want the declared fields.
-   * @return the declared fields of given class and its superclasses.
-   */
-  private static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
-	if (clazz == null) throw new NullPointerException("expecting Class parameter not to be null");
-	Set<Field> declaredFields = newLinkedHashSet(clazz.getDeclaredFields());
-	// get fields declared in superclass
-	Class<?> superclazz = clazz.getSuperclass();
-	while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
-	  declaredFields.addAll(newLinkedHashSet(superclazz.getDeclaredFields()));
-	  superclazz = superclazz.getSuperclass();
+	try {
+	  Object propertyValue = propertySupport.findPropertyValueOf(fieldName, a);
+	  if (propertyValue != NOT_FOUND) return propertyValue;
+	} catch (IntrospectionError e) {
+	  // getter can't be read either
 	}
-	return declaredFields;
+	// this time, we really fail
+	String msg = format("Unable to obtain the value of <'%s'> field/property from <%s>, expecting a public field or getter",
+	                    fieldName, a);
+	throw new IntrospectionError(msg);
   }
 
   /**
@@ -744,11 +732,65 @@ public class Objects {
   }
 
   public boolean areEqualToIgnoringGivenFields(Object actual, Object other, String... fields) {
-	return isEqualToIgnoringGivenFields(actual, other, fields).isFieldsNamesEmpty();
+	// stops at the first difference, unlike isEqualToIgnoringGivenFields which gathers them all
+	FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(actual, fields);
+	for (int i = 0; i < plan.size(); i++) {
+	  try {
+		if (!org.assertj.core.util.Objects.areEqual(plan.valueOf(i, actual), plan.valueOf(i, other))) return false;
+	  } catch (IntrospectionError e) {
+		// Not readable field, skip.
+	  }
+	}
+	return true;
   }
 
   public boolean areEqualToComparingOnlyGivenFields(Object actual, Object other, String... fields) {
-	return isEqualToComparingOnlyGivenFields(actual, other, fields).isFieldsNamesEmpty();
+	return areEqualToComparingOnlyGivenFields(actual, other, compileAll(fields));
+  }
+
+  public boolean areEqualToComparingOnlyGivenFields(Object actual, Object other, PropertyPath[] fields) {
+	// stops at the first difference, unlike isEqualToComparingOnlyGivenFields which gathers them all
+	for (PropertyPath field : fields) {
+	  Object actualFieldValue = getNestedFieldOrPropertyValue(actual, field);
+	  Object otherFieldValue = getNestedFieldOrPropertyValue(other, field);
+	  if (!org.assertj.core.util.Objects.areEqual(actualFieldValue, otherFieldValue)) return false;
+	}
+	return true;
+  }
+
+  /**
+   * Returns a hash code of the given object computed from the values of its fields but the given ones, consistent with
+   * {@link #areEqualToIgnoringGivenFields(Object, Object, String...)} for objects of the same class.
+   *
+   * @param actual the object to hash.
+   * @param fields the fields not to hash.
+   * @return a hash code of the given object computed from the values of its fields but the given ones.
+   * @throws IntrospectionError if one of the hashed field values can't be read.
+   */
+  public int hashCodeIgnoringGivenFields(Object actual, String... fields) {
+	FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(actual, fields);
+	int hashCode = 1;
+	for (int i = 0; i < plan.size(); i++) {
+	  hashCode = 31 * hashCode + org.assertj.core.util.Objects.hashCodeFor(plan.valueOf(i, actual));
+	}
+	return hashCode;
+  }
+
+  /**
+   * Returns a hash code of the given object computed from the values of the given fields, consistent with
+   * {@link #areEqualToComparingOnlyGivenFields(Object, Object, PropertyPath[])}.
+   *
+   * @param actual the object to hash.
+   * @param fields the compiled fields to hash, can be nested.
+   * @return a hash code of the given object computed from the values of the given fields.
+   * @throws IntrospectionError if one of the field values can't be read.
+   */
+  public int hashCodeComparingOnlyGivenFields(Object actual, PropertyPath[] fields) {
+	int hashCode = 1;
+	for (PropertyPath field : fields) {
+	  hashCode = 31 * hashCode + org.assertj.core.util.Objects.hashCodeFor(getNestedFieldOrPropertyValue(actual, field));
+	}
+	return hashCode;
   }
 
   public static class ByFieldsComparison {
@@ -768,6 +810,12 @@ public class Objects {
 	  this(new ArrayList<String>(), new ArrayList<Object>(), new ArrayList<Object>());
 	}
 
+	private void addDifference(String fieldName, Object actualFieldValue, Object otherFieldValue) {
+	  fieldsNames.add(fieldName);
+	  rejectedValues.add(actualFieldValue);
+	  expectedValues.add(otherFieldValue);
+	}
+
 	public boolean isFieldsNamesEmpty() {
 	  return fieldsNames.isEmpty();
 	}
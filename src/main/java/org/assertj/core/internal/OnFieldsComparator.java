@@ -1,16 +1,20 @@
 package org.assertj.core.internal;
 
+import static org.assertj.core.internal.Objects.compileAll;
 import static org.assertj.core.util.Arrays.isNullOrEmpty;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.introspection.PropertyPath;
 
 public class OnFieldsComparator extends FieldByFieldComparator {
 
   private final static StandardRepresentation REPRESENTATION = new StandardRepresentation();
 
   private String[] fields;
+  // fields compiled once for all comparisons
+  private PropertyPath[] fieldPaths;
 
   public OnFieldsComparator(String... fields) {
 	if (isNullOrEmpty(fields)) throw new IllegalArgumentException("No fields specified");
@@ -20,6 +24,7 @@ public class OnFieldsComparator extends FieldByFieldComparator {
 		                                   + REPRESENTATION.toStringOf(fields));
 	}
 	this.fields = fields;
+	this.fieldPaths = compileAll(fields);
   }
 
   @VisibleForTesting
@@ -29,7 +34,12 @@ public class OnFieldsComparator extends FieldByFieldComparator {
 
   @Override
   protected boolean areEqual(Object actualElement, Object otherElement) {
-	return Objects.instance().areEqualToComparingOnlyGivenFields(actualElement, otherElement, fields);
+	return Objects.instance().areEqualToComparingOnlyGivenFields(actualElement, otherElement, fieldPaths);
+  }
+
+  @Override
+  protected int fieldsHashCodeOf(Object element) {
+	return Objects.instance().hashCodeComparingOnlyGivenFields(element, fieldPaths);
   }
 
   @Override
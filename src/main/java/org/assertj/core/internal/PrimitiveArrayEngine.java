@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Group operations on primitive arrays reading elements without boxing them, used by {@link Arrays} with the standard
+ * comparison strategy (element equality and order are the ones of the wrapper types, e.g. {@link Double#equals(Object)}
+ * and {@link Double#compareTo(Double)}).
+ * <p>
+ * Operations take arrays as {@code Object} so that {@link Arrays} can use them whatever the primitive type is, each
+ * implementation casts them to its own array type once and works on the raw array. The eight implementations are
+ * generated from a single template by <code>src/main/scripts/generate-primitive-classes.sh</code>.
+ */
+abstract class PrimitiveArrayEngine {
+
+  /**
+   * Returns the engine handling the type of the given array, {@code null} if it is not an array of primitives.
+   *
+   * @param array the array we want an engine for.
+   * @return the engine handling the type of the given array, {@code null} if it is not an array of primitives.
+   */
+  static PrimitiveArrayEngine engineFor(Object array) {
+    if (array instanceof int[]) return IntArrayEngine.INSTANCE;
+    if (array instanceof long[]) return LongArrayEngine.INSTANCE;
+    if (array instanceof double[]) return DoubleArrayEngine.INSTANCE;
+    if (array instanceof float[]) return FloatArrayEngine.INSTANCE;
+    if (array instanceof byte[]) return ByteArrayEngine.INSTANCE;
+    if (array instanceof short[]) return ShortArrayEngine.INSTANCE;
+    if (array instanceof char[]) return CharArrayEngine.INSTANCE;
+    if (array instanceof boolean[]) return BooleanArrayEngine.INSTANCE;
+    return null;
+  }
+
+  /**
+   * Returns for each of the given values whether the array contains it.
+   *
+   * @param array the array to look values in.
+   * @param values the values to look for, of the same type as array.
+   * @return an array telling for each value (at the same position) whether it is contained in the array.
+   */
+  abstract boolean[] contained(Object array, Object values);
+
+  /**
+   * Returns for each of the given values whether the array contains it more than once.
+   *
+   * @param array the array to look values in.
+   * @param values the values to look for, of the same type as array.
+   * @return an array telling for each value (at the same position) whether it is contained more than once in the array.
+   */
+  abstract boolean[] containedMoreThanOnce(Object array, Object values);
+
+  /**
+   * Returns true if the array contains the given sequence, without any other values between sequence values.
+   *
+   * @param array the array to look the sequence in.
+   * @param sequence the non empty sequence to look for, of the same type as array.
+   * @return true if the array contains the given sequence.
+   */
+  abstract boolean containsSequence(Object array, Object sequence);
+
+  /**
+   * Returns true if the array contains the given subsequence, possibly with other values between subsequence values.
+   *
+   * @param array the array to look the subsequence in.
+   * @param subsequence the subsequence to look for, of the same type as array.
+   * @return true if the array contains the given subsequence.
+   */
+  abstract boolean containsSubsequence(Object array, Object subsequence);
+
+  /**
+   * Returns true if the array starts with the given sequence.
+   *
+   * @param array the array to check.
+   * @param sequence the sequence to look for, of the same type as array.
+   * @return true if the array starts with the given sequence.
+   */
+  abstract boolean startsWith(Object array, Object sequence);
+
+  /**
+   * Returns true if the array ends with the given sequence.
+   *
+   * @param array the array to check.
+   * @param sequence the sequence to look for, of the same type as array.
+   * @return true if the array ends with the given sequence.
+   */
+  abstract boolean endsWith(Object array, Object sequence);
+
+  /**
+   * Returns true if the array contains the same value more than once.
+   *
+   * @param array the array to check.
+   * @return true if the array contains the same value more than once.
+   */
+  abstract boolean hasDuplicates(Object array);
+
+  /**
+   * Returns the index of the first element greater than the next one, -1 if the array is sorted in ascending order.
+   *
+   * @param array the array to check.
+   * @return the index of the first element greater than the next one, -1 if the array is sorted.
+   */
+  abstract int indexOfFirstUnsortedElement(Object array);
+
+}
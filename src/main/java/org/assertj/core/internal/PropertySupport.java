@@ -18,6 +18,7 @@ import static java.lang.String.format;
 import static java.util.Collections.*;
 import static org.assertj.core.util.Iterables.isNullOrEmpty;
 import static org.assertj.core.util.introspection.Introspection.getProperty;
+import static org.assertj.core.util.introspection.PropertyPath.compile;
 
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
@@ -25,6 +26,7 @@ import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.IntrospectionError;
+import org.assertj.core.util.introspection.PropertyPath;
 
 /**
  * Utility methods for properties access.
@@ -36,8 +38,6 @@ import org.assertj.core.util.introspection.IntrospectionError;
  */
 public class PropertySupport {
 
-  private static final String SEPARATOR = ".";
-
   private static final PropertySupport INSTANCE = new PropertySupport();
 
   /**
@@ -73,13 +73,13 @@ public class PropertySupport {
     if (isNullOrEmpty(target)) {
       return emptyList();
     }
-    if (isNestedProperty(propertyName)) {
-      String firstPropertyName = popPropertyNameFrom(propertyName);
-      Iterable<Object> propertyValues = propertyValues(firstPropertyName, Object.class, target);
-      // extract next sub-property values until reaching the last sub-property
-      return propertyValues(nextPropertyNameFrom(propertyName), clazz, propertyValues);
+    // the path is compiled once for all elements
+    PropertyPath propertyPath = compile(propertyName);
+    List<T> propertyValues = new ArrayList<T>();
+    for (Object e : target) {
+      propertyValues.add(propertyValueOf(propertyPath, clazz, e));
     }
-    return simplePropertyValues(propertyName, clazz, target);
+    return unmodifiableList(propertyValues);
   }
 
   /**
@@ -97,45 +97,6 @@ public class PropertySupport {
     return instance().propertyValueOf(propertyName, clazz, target);
   }
 
-  private <T> List<T> simplePropertyValues(String propertyName, Class<T> clazz, Iterable<?> target) {
-    List<T> propertyValues = new ArrayList<T>();
-    for (Object e : target) {
-      propertyValues.add(e == null ? null : propertyValue(propertyName, clazz, e));
-    }
-    return unmodifiableList(propertyValues);
-  }
-
-  private String popPropertyNameFrom(String propertyNameChain) {
-    if (!isNestedProperty(propertyNameChain)) {
-      return propertyNameChain;
-    }
-    return propertyNameChain.substring(0, propertyNameChain.indexOf(SEPARATOR));
-  }
-
-  private String nextPropertyNameFrom(String propertyNameChain) {
-    if (!isNestedProperty(propertyNameChain)) {
-      return "";
-    }
-    return propertyNameChain.substring(propertyNameChain.indexOf(SEPARATOR) + 1);
-  }
-
-  /**
-   * <pre><code class='java'>
-   * isNestedProperty(&quot;address.street&quot;); // true
-   * isNestedProperty(&quot;address.street.name&quot;); // true
-   * isNestedProperty(&quot;person&quot;); // false
-   * isNestedProperty(&quot;.name&quot;); // false
-   * isNestedProperty(&quot;person.&quot;); // false
-   * isNestedProperty(&quot;person.name.&quot;); // false
-   * isNestedProperty(&quot;.person.name&quot;); // false
-   * isNestedProperty(&quot;.&quot;); // false
-   * isNestedProperty(&quot;&quot;); // false
-   * </code></pre>
-   */
-  private boolean isNestedProperty(String propertyName) {
-    return propertyName.contains(SEPARATOR) && !propertyName.startsWith(SEPARATOR) && !propertyName.endsWith(SEPARATOR);
-  }
-
   /**
    * Return the value of a simple property from a target object.
    * <p>
@@ -150,7 +111,10 @@ public class PropertySupport {
    * @throws IntrospectionError if the given target does not have a property with a matching name.
    */
   public <T> T propertyValue(String propertyName, Class<T> clazz, Object target) {
-    PropertyDescriptor descriptor = getProperty(propertyName, target);
+    return readProperty(propertyName, getProperty(propertyName, target), clazz, target);
+  }
+
+  <T> T readProperty(String propertyName, PropertyDescriptor descriptor, Class<T> clazz, Object target) {
     try {
       return clazz.cast(javaBeanDescriptor.invokeReadMethod(descriptor, target));
     } catch (ClassCastException e) {
@@ -179,13 +143,49 @@ public class PropertySupport {
     // returns null if target is null as we can't extract a property from a null object
     if (target == null) return null;
 
-    if (isNestedProperty(propertyName)) {
-      String firstPropertyName = popPropertyNameFrom(propertyName);
-      Object propertyValue = propertyValue(firstPropertyName, Object.class, target);
-      // extract next sub-property values until reaching the last sub-property
-      return propertyValueOf(nextPropertyNameFrom(propertyName), clazz, propertyValue);
+    return propertyValueOf(compile(propertyName), clazz, target);
+  }
+
+  /**
+   * Returns the value of the property designated by the given compiled path in the given target, see
+   * {@link #propertyValueOf(String, Class, Object)}.
+   * 
+   * @param propertyPath the compiled name of the property, reused across targets.
+   * @param clazz the class of property.
+   * @param target the given Object to extract property from.
+   * @return the value of the given property name given target.
+   * @throws IntrospectionError if target object does not have a property with a matching name.
+   */
+  public <T> T propertyValueOf(PropertyPath propertyPath, Class<T> clazz, Object target) {
+    Object value = target;
+    int lastIndex = propertyPath.length() - 1;
+    // extract sub-property values until reaching the last sub-property
+    for (int i = 0; i < lastIndex && value != null; i++) {
+      value = readProperty(propertyPath.name(i), propertyPath.property(i, value), Object.class, value);
+    }
+    if (value == null) return null;
+    return readProperty(propertyPath.name(lastIndex), propertyPath.property(lastIndex, value), clazz, value);
+  }
+
+  /**
+   * Returns the value of the property designated by the given compiled path in the given target, or
+   * {@link PropertyPath#NOT_FOUND} if the target or one of the nested values does not have a matching property. Unlike
+   * {@link #propertyValueOf(PropertyPath, Class, Object)}, missing properties are not reported by an exception.
+   * 
+   * @param propertyPath the compiled name of the property, reused across targets.
+   * @param target the given Object to extract property from.
+   * @return the value of the given property name given target, {@link PropertyPath#NOT_FOUND} if there is no such
+   *         property.
+   * @throws IntrospectionError if a matching property can't be read.
+   */
+  public Object findPropertyValueOf(PropertyPath propertyPath, Object target) {
+    Object value = target;
+    for (int i = 0; i < propertyPath.length() && value != null; i++) {
+      PropertyDescriptor descriptor = propertyPath.findProperty(i, value);
+      if (descriptor == null) return PropertyPath.NOT_FOUND;
+      value = readProperty(propertyPath.name(i), descriptor, Object.class, value);
     }
-    return propertyValue(propertyName, clazz, target);
+    return value;
   }
 
   /**
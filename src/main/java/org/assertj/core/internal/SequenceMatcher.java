@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Looks for a sequence of elements in a group of elements using the Knuth-Morris-Pratt algorithm: elements are read
+ * once, in order, and the search is O(n+k) instead of O(n·k) for a naive search trying each starting index.
+ * <p>
+ * Elements are compared with a {@link ComparisonStrategy} whose equality is expected to be an equivalence relation, as
+ * it is for {@link StandardComparisonStrategy} and {@link ComparatorBasedComparisonStrategy}.
+ */
+final class SequenceMatcher {
+
+  private final Object[] sequence;
+  private final ComparisonStrategy comparisonStrategy;
+  // failure[i] : length of the longest proper prefix of sequence[0..i] that is also a suffix of it
+  private final int[] failure;
+
+  /**
+   * Creates a new <code>{@link SequenceMatcher}</code>.
+   *
+   * @param sequence the non empty sequence to look for.
+   * @param comparisonStrategy the comparison strategy telling whether elements are equal.
+   */
+  SequenceMatcher(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    this.sequence = sequence;
+    this.comparisonStrategy = comparisonStrategy;
+    this.failure = failureTableOf(sequence, comparisonStrategy);
+  }
+
+  private static int[] failureTableOf(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    int[] failure = new int[sequence.length];
+    int matched = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (matched > 0 && !comparisonStrategy.areEqual(sequence[i], sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (comparisonStrategy.areEqual(sequence[i], sequence[matched])) matched++;
+      failure[i] = matched;
+    }
+    return failure;
+  }
+
+  /**
+   * Returns true if the given elements contain the sequence, without any other elements between sequence elements.
+   *
+   * @param elements the elements to search the sequence in.
+   * @return true if the given elements contain the sequence.
+   */
+  boolean isFoundIn(Iterable<?> elements) {
+    int matched = 0;
+    for (Object element : elements) {
+      while (matched > 0 && !comparisonStrategy.areEqual(element, sequence[matched])) {
+        matched = failure[matched - 1];
+      }
+      if (comparisonStrategy.areEqual(element, sequence[matched]) && ++matched == sequence.length) return true;
+    }
+    return false;
+  }
+
+}
@@ -16,9 +16,13 @@ package org.assertj.core.internal;
  */
 
 import static java.lang.String.format;
+import static java.util.Collections.EMPTY_SET;
+import static org.assertj.core.util.Iterables.isNullOrEmpty;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -125,15 +129,28 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
   /**
    * Returns any duplicate elements from the given collection according to {@link Objects#areEqual(Object, Object)} comparison
    * strategy.
+   * <p>
+   * Elements are hashed with {@link Objects#hashCodeFor(Object)} (arrays by content), finding duplicates is thus O(n).
+   * Duplicates are returned in the order they are found, each one only once.
    * 
    * @param iterable the given {@link Iterable} we want to extract duplicate elements.
    * @return an {@link Iterable} containing the duplicate elements of the given one. If no duplicates are found, an
    *         empty {@link Iterable} is returned.
    */
-  // overridden to write javadoc.
   @Override
   public Iterable<?> duplicatesFrom(Iterable<?> iterable) {
-    return super.duplicatesFrom(iterable);
+    // subclasses redefining element equality can't rely on hashCodeFor
+    if (!isStandard()) return super.duplicatesFrom(iterable);
+    if (isNullOrEmpty(iterable)) return EMPTY_SET;
+    HashIndex noDuplicates = new HashIndex(iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0);
+    HashIndex duplicates = new HashIndex(0);
+    Set<Object> duplicatesInFoundOrder = new LinkedHashSet<Object>();
+    for (Object element : iterable) {
+      if (!noDuplicates.add(element) && duplicates.add(element)) {
+        duplicatesInFoundOrder.add(element);
+      }
+    }
+    return duplicatesInFoundOrder;
   }
 
   @Override
@@ -16,12 +16,14 @@ package org.assertj.core.presentation;
 
 import static org.assertj.core.util.Strings.concat;
 
+import java.io.IOException;
+
 /**
  * Binary object representation instead of standard java representation.
  * 
  * @author Mariusz Smykula
  */
-public class BinaryRepresentation implements Representation {
+public class BinaryRepresentation implements StreamingRepresentation {
 
   public static final String BYTE_PREFIX = "0b";
 
@@ -44,6 +46,19 @@ public class BinaryRepresentation implements Representation {
     return object == null ? null : CollectionToString.toStringOf(this, object);
   }
 
+  /**
+   * Appends the representation of the given object to the given {@code Appendable}, arrays, collections, maps and
+   * tuples being written directly in it with their elements.
+   *
+   * @param appendable where to write the representation.
+   * @param object the given object.
+   * @throws IOException if the given {@code Appendable} fails to append.
+   */
+  @Override
+  public void appendTo(Appendable appendable, Object object) throws IOException {
+    CollectionToString.appendTo(appendable, this, object);
+  }
+
   private static String toStringOf(Representation representation, String s) {
     return concat("\"", representation.toStringOf(s.toCharArray()), "\"");
   }
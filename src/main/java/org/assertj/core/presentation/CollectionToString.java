@@ -20,6 +20,7 @@ import org.assertj.core.util.Collections;
 
 import static org.assertj.core.util.Arrays.isArray;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.Arrays;
 
@@ -41,28 +42,49 @@ final class CollectionToString {
    * @return the {@code toString} representation of the given object.
    */
   public static String toStringOf(Representation representation, Object o) {
-    if (isArray(o)) {
-      return org.assertj.core.util.Arrays.format(representation, o);
-    } else if (o instanceof Collection<?>) {
-      return toStringOf((Collection<?>) o, representation);
-    } else if (o instanceof Map<?, ?>) {
-      return toStringOf((Map<?, ?>) o, representation);
-    } else if (o instanceof Tuple) {
-      return toStringOf((Tuple) o, representation);
+    if (!isContainer(o)) {
+      return defaultToString(o);
     }
-    return defaultToString(o);
+    StringBuilder buffer = new StringBuilder();
+    appendContainer(buffer, representation, o);
+    return buffer.toString();
   }
 
-  private static String toStringOf(Collection<?> c, Representation p) {
-    return org.assertj.core.util.Collections.format(p, c);
+  /**
+   * Appends the representation of the given object to the given {@code Appendable}, a collection is written directly
+   * in it with its elements while other objects are written with {@link Representation#toStringOf(Object)}.
+   * 
+   * @param appendable where to write the representation.
+   * @param representation the representation of the given object and of its elements.
+   * @param o the given object.
+   * @throws IOException if the given {@code Appendable} fails to append.
+   */
+  public static void appendTo(Appendable appendable, Representation representation, Object o) throws IOException {
+    if (!isContainer(o)) {
+      appendable.append(representation.toStringOf(o));
+    } else if (appendable instanceof StringBuilder) {
+      appendContainer((StringBuilder) appendable, representation, o);
+    } else {
+      StringBuilder buffer = new StringBuilder();
+      appendContainer(buffer, representation, o);
+      appendable.append(buffer);
+    }
   }
 
-  private static String toStringOf(Map<?, ?> m, Representation p) {
-    return Maps.format(p, m);
+  private static boolean isContainer(Object o) {
+    return isArray(o) || o instanceof Collection<?> || o instanceof Map<?, ?> || o instanceof Tuple;
   }
 
-  private static String toStringOf(Tuple tuple, Representation representation) {
-    return Collections.format(representation, Arrays.asList(tuple.toArray()), "(", ")");
+  private static void appendContainer(StringBuilder buffer, Representation representation, Object o) {
+    if (isArray(o)) {
+      org.assertj.core.util.Arrays.appendTo(buffer, representation, o);
+    } else if (o instanceof Collection<?>) {
+      Collections.appendTo(buffer, representation, (Collection<?>) o, "[", "]");
+    } else if (o instanceof Map<?, ?>) {
+      Maps.appendTo(buffer, representation, (Map<?, ?>) o);
+    } else {
+      Collections.appendTo(buffer, representation, Arrays.asList(((Tuple) o).toArray()), "(", ")");
+    }
   }
 
   private static String defaultToString(Object o) {
@@ -16,12 +16,14 @@ package org.assertj.core.presentation;
 
 import static org.assertj.core.util.Strings.concat;
 
+import java.io.IOException;
+
 /**
  * Hexadecimal object representation instead of standard java representation.
  * 
  * @author Mariusz Smykula
  */
-public class HexadecimalRepresentation implements Representation {
+public class HexadecimalRepresentation implements StreamingRepresentation {
 
   public static final String PREFIX = "0x";
   public static final int NIBBLE_SIZE = 4;
@@ -45,6 +47,19 @@ public class HexadecimalRepresentation implements Representation {
     return object == null ? null : CollectionToString.toStringOf(this, object);
   }
 
+  /**
+   * Appends the representation of the given object to the given {@code Appendable}, arrays, collections, maps and
+   * tuples being written directly in it with their elements.
+   *
+   * @param appendable where to write the representation.
+   * @param object the given object.
+   * @throws IOException if the given {@code Appendable} fails to append.
+   */
+  @Override
+  public void appendTo(Appendable appendable, Object object) throws IOException {
+    CollectionToString.appendTo(appendable, this, object);
+  }
+
   private static String toStringOf(Number number) {
     if (number instanceof Byte) {
       return toStringOf((Byte) number);
@@ -14,71 +14,214 @@
  */
 package org.assertj.core.presentation;
 
+import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.util.Collections;
 import org.assertj.core.util.Dates;
+import org.assertj.core.util.Maps;
 
 /**
  * Standard java object representation.
+ * <p>
+ * Objects of other types can be given their own representation by {@link #registerFormatter(Class, TypeFormatter)
+ * registering} a formatter for their type.
  * 
  * @author Mariusz Smykula
  */
-public class StandardRepresentation implements Representation {
+public class StandardRepresentation implements StreamingRepresentation {
+
+  private static volatile int maxElementsForPrinting = 1000;
+  private static volatile int maxDepthForPrinting = 100;
+  private static volatile int maxLengthForPrinting = 1000000;
+
+  private static final List<RegisteredFormatter> registeredFormatters = new CopyOnWriteArrayList<RegisteredFormatter>();
+  // incremented when formatters are registered or removed, to look the formatters of formatted classes up again
+  private static volatile int formattersVersion;
+  // the formatter of each formatted class, stored in a ClassValue so that formatted classes can still be unloaded.
+  private static final ClassValue<CachedFormatter> FORMATTERS = new ClassValue<CachedFormatter>() {
+    @Override
+    protected CachedFormatter computeValue(Class<?> type) {
+      // read before the registered formatters so that a formatter looked up during a registration is looked up again
+      int version = formattersVersion;
+      return new CachedFormatter(version, lookUpFormatter(type));
+    }
+  };
+
+  /**
+   * Globally set the maximum number of elements written for an array, a collection or a map, the first and last
+   * elements are written, the other ones are replaced by their count (e.g. {@code [1, 2, ... 6 more elements ..., 9, 10]}
+   * when the limit is 4).
+   *
+   * @param maxElementsForPrinting the maximum number of elements written per container. Default {@code 1000}.
+   * @throws IllegalArgumentException if the given maximum is less than 1.
+   */
+  public static void setMaxElementsForPrinting(int maxElementsForPrinting) {
+    StandardRepresentation.maxElementsForPrinting = checkIsPositive(maxElementsForPrinting);
+  }
+
+  public static int getMaxElementsForPrinting() {
+    return maxElementsForPrinting;
+  }
+
+  /**
+   * Globally set how deep arrays, collections and maps nested in each other are written, the elements of the deeper
+   * ones are left out (e.g. {@code [[1, [...]], [2]]} when the limit is 2).
+   *
+   * @param maxDepthForPrinting the maximum depth of the written containers. Default {@code 100}.
+   * @throws IllegalArgumentException if the given maximum is less than 1.
+   */
+  public static void setMaxDepthForPrinting(int maxDepthForPrinting) {
+    StandardRepresentation.maxDepthForPrinting = checkIsPositive(maxDepthForPrinting);
+  }
+
+  public static int getMaxDepthForPrinting() {
+    return maxDepthForPrinting;
+  }
+
+  /**
+   * Globally set the maximum number of characters written for an array, a collection or a map (including the
+   * containers nested in it), the output is ended by an ellipsis once the limit is reached.
+   *
+   * @param maxLengthForPrinting the maximum number of characters written per container. Default {@code 1000000}.
+   * @throws IllegalArgumentException if the given maximum is less than 1.
+   */
+  public static void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    StandardRepresentation.maxLengthForPrinting = checkIsPositive(maxLengthForPrinting);
+  }
+
+  public static int getMaxLengthForPrinting() {
+    return maxLengthForPrinting;
+  }
+
+  private static int checkIsPositive(int maximum) {
+    if (maximum < 1) throw new IllegalArgumentException(String.format("The maximum should be positive but was <%s>",
+                                                                      maximum));
+    return maximum;
+  }
+
+  /**
+   * Globally registers a formatter of the objects of the given type and of its subtypes, used instead of their standard
+   * representation. Formatters registered later take precedence over the ones registered before, a formatter
+   * registered for the same type replaces the previous one.
+   *
+   * @param <T> the type of the formatted objects.
+   * @param type the type of the formatted objects.
+   * @param formatter the formatter of the objects of the given type.
+   * @throws NullPointerException if the given type or formatter is {@code null}.
+   */
+  public static synchronized <T> void registerFormatter(Class<T> type, TypeFormatter<? super T> formatter) {
+    checkNotNull(type);
+    checkNotNull(formatter);
+    unregister(type);
+    registeredFormatters.add(0, new RegisteredFormatter(type, formatter));
+    formattersVersion++;
+  }
+
+  /**
+   * Globally removes the formatter registered for the given type, its objects get their standard representation again.
+   *
+   * @param type the type of the formatted objects.
+   */
+  public static synchronized void removeFormatter(Class<?> type) {
+    unregister(type);
+    formattersVersion++;
+  }
+
+  private static void unregister(Class<?> type) {
+    for (RegisteredFormatter registered : registeredFormatters) {
+      if (registered.type == type) registeredFormatters.remove(registered);
+    }
+  }
 
   /**
    * Returns standard the {@code toString} representation of the given object. It may or not the object's own
    * implementation of {@code toString}.
+   * <p>
+   * The formatter of each class is looked up once, among the
+   * {@link #registerFormatter(Class, TypeFormatter) registered} formatters first.
    * 
    * @param object the given object.
    * @return the {@code toString} representation of the given object.
    */
   @Override
   public String toStringOf(Object object) {
-    if (object instanceof Calendar) {
-      return toStringOf((Calendar) object);
-    } else if (object instanceof Class<?>) {
-      return toStringOf((Class<?>) object);
-    } else if (object instanceof Date) {
-      return toStringOf((Date) object);
-    } else if (object instanceof Number) {
-      return toStringOf((Number) object, this);
-    } else if (object instanceof File) {
-      return toStringOf((File) object);
-    } else if (object instanceof String) {
-      return toStringOf((String) object);
-    } else if (object instanceof Character) {
-      return toStringOf((Character) object);
-    } else if (object instanceof Comparator) {
-      return toStringOf((Comparator<?>) object);
-    } else if (object instanceof ComparatorBasedComparisonStrategy) {
-      return toStringOf((Comparator<?>) object);
-    } else if (object instanceof SimpleDateFormat) {
-      return toStringOf((SimpleDateFormat) object);
-    } else if (object instanceof Tuple) {
-      return toStringOf((Tuple) object, this);
+    return object == null ? null : formatterOf(object.getClass()).format(object, this);
+  }
+
+  /**
+   * Appends the standard representation of the given object to the given {@code Appendable}. Arrays, collections, maps
+   * and tuples are written directly in it, with their elements, unless a subclass overrides
+   * {@link #toStringOf(Object)}: all objects are then written with it.
+   *
+   * @param appendable where to write the representation.
+   * @param object the given object.
+   * @throws IOException if the given {@code Appendable} fails to append.
+   */
+  @Override
+  public void appendTo(Appendable appendable, Object object) throws IOException {
+    if (object == null || !OWN_TO_STRING_OF.get(getClass())) {
+      appendable.append(toStringOf(object));
+      return;
+    }
+    TypeFormatter<Object> formatter = formatterOf(object.getClass());
+    if (!(formatter instanceof StandardFormatter) || !((StandardFormatter) formatter).container) {
+      appendable.append(formatter.format(object, this));
+    } else if (appendable instanceof StringBuilder) {
+      ((StandardFormatter) formatter).appendTo((StringBuilder) appendable, object, this);
+    } else {
+      StringBuilder buffer = new StringBuilder();
+      ((StandardFormatter) formatter).appendTo(buffer, object, this);
+      appendable.append(buffer);
     }
-    return defaultToString(object, this);
   }
 
-  private static String toStringOf(Number number, Representation representation) {
-    if (number instanceof Float) {
-      return toStringOf((Float) number);
+  // whether the toStringOf method of a representation class is the one of StandardRepresentation
+  private static final ClassValue<Boolean> OWN_TO_STRING_OF = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        return type.getMethod("toStringOf", Object.class).getDeclaringClass() == StandardRepresentation.class;
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
     }
-    if (number instanceof Long) {
-      return toStringOf((Long) number);
+  };
+
+  private static TypeFormatter<Object> formatterOf(Class<?> type) {
+    CachedFormatter cached = FORMATTERS.get(type);
+    if (cached.version != formattersVersion) {
+      // formatters have been registered or removed since it was looked up
+      FORMATTERS.remove(type);
+      cached = FORMATTERS.get(type);
+    }
+    return cached.formatter;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static TypeFormatter<Object> lookUpFormatter(Class<?> type) {
+    for (RegisteredFormatter registered : registeredFormatters) {
+      if (registered.type.isAssignableFrom(type)) return (TypeFormatter<Object>) registered.formatter;
     }
-    return defaultToString(number, representation);
+    for (StandardFormatter standard : StandardFormatter.values()) {
+      if (standard.formats(type)) return standard;
+    }
+    return StandardFormatter.OBJECT;
   }
 
   private static String toStringOf(Comparator<?> comparator) {	
@@ -89,48 +232,162 @@ public class StandardRepresentation implements Representation {
 	return quote(comparator.toString());
   }
 
-  private static String toStringOf(Calendar c) {
-    return Dates.formatAsDatetime(c);
-  }
+  private static final class CachedFormatter {
 
-  private static String toStringOf(Class<?> c) {
-    return c.getCanonicalName();
-  }
+    private final int version;
+    private final TypeFormatter<Object> formatter;
 
-  private static String toStringOf(String s) {
-    return concat("\"", s, "\"");
+    private CachedFormatter(int version, TypeFormatter<Object> formatter) {
+      this.version = version;
+      this.formatter = formatter;
+    }
   }
 
-  private static String toStringOf(Character c) {
-    return concat("'", c, "'");
-  }
+  private static final class RegisteredFormatter {
 
-  private static String toStringOf(Date d) {
-    return Dates.formatAsDatetime(d);
-  }
+    private final Class<?> type;
+    private final TypeFormatter<?> formatter;
 
-  private static String toStringOf(Float f) {
-    return String.format("%sf", f);
+    private RegisteredFormatter(Class<?> type, TypeFormatter<?> formatter) {
+      this.type = type;
+      this.formatter = formatter;
+    }
   }
 
-  private static String toStringOf(Long l) {
-    return String.format("%sL", l);
-  }
+  // the standard formats, the first one formatting the type of an object is used
+  private enum StandardFormatter implements TypeFormatter<Object> {
 
-  private static String toStringOf(File f) {
-    return f.getAbsolutePath();
-  }
+    CALENDAR(Calendar.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return Dates.formatAsDatetime((Calendar) object);
+      }
+    },
+    CLASS(Class.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return ((Class<?>) object).getCanonicalName();
+      }
+    },
+    DATE(Date.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return Dates.formatAsDatetime((Date) object);
+      }
+    },
+    FLOAT(Float.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return String.format("%sf", object);
+      }
+    },
+    LONG(Long.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return String.format("%sL", object);
+      }
+    },
+    FILE(File.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return ((File) object).getAbsolutePath();
+      }
+    },
+    STRING(String.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return concat("\"", object, "\"");
+      }
+    },
+    CHARACTER(Character.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return concat("'", object, "'");
+      }
+    },
+    COMPARATOR(Comparator.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return toStringOf((Comparator<?>) object);
+      }
+    },
+    COMPARISON_STRATEGY(ComparatorBasedComparisonStrategy.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        // the representation of its comparator
+        return object.toString();
+      }
+    },
+    SIMPLE_DATE_FORMAT(SimpleDateFormat.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return ((SimpleDateFormat) object).toPattern();
+      }
+    },
+    TUPLE(Tuple.class, true) {
+      @Override
+      void appendTo(StringBuilder buffer, Object object, Representation representation) {
+        Collections.appendTo(buffer, representation, Arrays.asList(((Tuple) object).toArray()), "(", ")");
+      }
+    },
+    ARRAY(Object[].class, true) {
+      @Override
+      boolean formats(Class<?> type) {
+        return type.isArray();
+      }
 
-  private static String toStringOf(SimpleDateFormat dateFormat) {
-    return dateFormat.toPattern();
-  }
+      @Override
+      void appendTo(StringBuilder buffer, Object object, Representation representation) {
+        org.assertj.core.util.Arrays.appendTo(buffer, representation, object);
+      }
+    },
+    COLLECTION(Collection.class, true) {
+      @Override
+      void appendTo(StringBuilder buffer, Object object, Representation representation) {
+        Collections.appendTo(buffer, representation, (Collection<?>) object, "[", "]");
+      }
+    },
+    MAP(Map.class, true) {
+      @Override
+      void appendTo(StringBuilder buffer, Object object, Representation representation) {
+        Maps.appendTo(buffer, representation, (Map<?, ?>) object);
+      }
+    },
+    OBJECT(Object.class) {
+      @Override
+      public String format(Object object, Representation representation) {
+        return object.toString();
+      }
+    };
 
-  private static String toStringOf(Tuple tuple, Representation representation) {
-    return Collections.format(representation, Arrays.asList(tuple.toArray()), "(", ")");
-  }
+    private final Class<?> type;
+    // whether the objects contain other objects, written in the same buffer
+    private final boolean container;
+
+    private StandardFormatter(Class<?> type) {
+      this(type, false);
+    }
+
+    private StandardFormatter(Class<?> type, boolean container) {
+      this.type = type;
+      this.container = container;
+    }
+
+    boolean formats(Class<?> type) {
+      return this.type.isAssignableFrom(type);
+    }
+
+    @Override
+    public String format(Object object, Representation representation) {
+      StringBuilder buffer = new StringBuilder();
+      appendTo(buffer, object, representation);
+      return buffer.toString();
+    }
 
-  private static String defaultToString(Object object, Representation representation) {
-    return object == null ? null : CollectionToString.toStringOf(representation, object);
+    // overridden by the formats of containers, the other formats override format instead
+    void appendTo(StringBuilder buffer, Object object, Representation representation) {
+      buffer.append(format(object, representation));
+    }
   }
 
 }
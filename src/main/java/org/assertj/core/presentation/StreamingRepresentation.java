@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import java.io.IOException;
+
+/**
+ * A {@link Representation} able to write the representation of an object directly where it is needed.
+ * <p>
+ * Arrays, collections and maps nested in each other are then written once in the {@code Appendable}, instead of being
+ * built as a {@code String} at each level and copied into the representation of the enclosing container.
+ */
+public interface StreamingRepresentation extends Representation {
+
+  /**
+   * Appends the {@code toString} representation of the given object to the given {@code Appendable}, {@code "null"} if
+   * the object is {@code null}.
+   *
+   * @param appendable where to write the representation.
+   * @param object the given object.
+   * @throws IOException if the given {@code Appendable} fails to append.
+   */
+  void appendTo(Appendable appendable, Object object) throws IOException;
+
+}
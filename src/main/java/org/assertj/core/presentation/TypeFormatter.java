@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+/**
+ * Formats the objects of a type in the {@link StandardRepresentation}, see
+ * {@link StandardRepresentation#registerFormatter(Class, TypeFormatter)}.
+ *
+ * @param <T> the type of the formatted objects.
+ */
+public interface TypeFormatter<T> {
+
+  /**
+   * Returns the representation of the given object.
+   *
+   * @param object the object to format, never {@code null}.
+   * @param representation the representation formatting the object, to format the objects it contains.
+   * @return the representation of the given object.
+   */
+  String format(T object, Representation representation);
+
+}
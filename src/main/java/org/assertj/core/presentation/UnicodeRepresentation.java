@@ -14,6 +14,7 @@
  */
 package org.assertj.core.presentation;
 
+import java.io.IOException;
 import java.util.Formatter;
 
 /**
@@ -21,7 +22,7 @@ import java.util.Formatter;
  *
  * @author Mariusz Smykula
  */
-public class UnicodeRepresentation implements Representation {
+public class UnicodeRepresentation implements StreamingRepresentation {
 
 
   /**
@@ -42,6 +43,19 @@ public class UnicodeRepresentation implements Representation {
     return object == null ? null : CollectionToString.toStringOf(this, object);
   }
 
+  /**
+   * Appends the representation of the given object to the given {@code Appendable}, arrays, collections, maps and
+   * tuples being written directly in it with their elements.
+   *
+   * @param appendable where to write the representation.
+   * @param object the given object.
+   * @throws IOException if the given {@code Appendable} fails to append.
+   */
+  @Override
+  public void appendTo(Appendable appendable, Object object) throws IOException {
+    CollectionToString.appendTo(appendable, this, object);
+  }
+
   private String toStringOf(Character string) {
     return escapeUnicode(string.toString());
   }
@@ -36,83 +36,85 @@ final class ArrayFormatter {
     if (!isArray(o)) {
       return null;
     }
-    return isObjectArray(o) ? formatObjectArray(p, o) : formatPrimitiveArray(p, o);
+    StringBuilder buffer = new StringBuilder();
+    appendArray(p, o, buffer, new HashSet<Object[]>());
+    return buffer.toString();
   }
 
-  private String formatObjectArray(Representation p, Object o) {
-    Object[] array = (Object[]) o;
-    int size = array.length;
-    if (size == 0) {
-      return "[]";
+  void appendTo(StringBuilder buffer, Representation p, Object o) {
+    if (!isArray(o)) {
+      buffer.append(NULL);
+      return;
     }
-    StringBuilder buffer = new StringBuilder((20 * (size - 1)));
-    deepToString(p, array, buffer, new HashSet<Object[]>());
-    return buffer.toString();
+    appendArray(p, o, buffer, new HashSet<Object[]>());
   }
 
-  private void deepToString(Representation p, Object[] array, StringBuilder buffer, Set<Object[]> alreadyFormatted) {
-    if (array == null) {
-      buffer.append(NULL);
+  private void appendArray(Representation p, Object array, StringBuilder buffer, Set<Object[]> alreadyFormatted) {
+    int size = getLength(array);
+    if (size == 0) {
+      buffer.append("[]");
       return;
     }
-    alreadyFormatted.add(array);
-    buffer.append('[');
-    int size = array.length;
-    for (int i = 0; i < size; i++) {
-      if (i != 0) {
-        buffer.append(", ");
+    FormattingBudget budget = FormattingBudget.enter();
+    try {
+      if (budget.isTooDeep()) {
+        buffer.append('[').append(FormattingBudget.ELLIPSIS).append(']');
+        return;
       }
-      Object element = array[i];
-      if (!isArray(element)) {
-        buffer.append(element == null ? NULL : p.toStringOf(element));
-        continue;
+      boolean objectArray = isObjectArray(array);
+      if (objectArray) {
+        alreadyFormatted.add((Object[]) array);
       }
-      if (!isObjectArray(element)) {
-        buffer.append(formatPrimitiveArray(p, element));
-        continue;
+      int headSize = budget.headSize(size);
+      int tailStart = size - budget.tailSize(size);
+      buffer.append('[');
+      for (int i = 0; i < size; i++) {
+        if (i == headSize && i < tailStart) {
+          // only the first and last elements are written
+          if (!budget.appendSeparator(buffer, ", ")) {
+            break;
+          }
+          budget.appendOmitted(buffer, tailStart - headSize, "elements");
+          i = tailStart - 1;
+          continue;
+        }
+        if (i != 0 && !budget.appendSeparator(buffer, ", ")) {
+          break;
+        }
+        Object element = Array.get(array, i);
+        if (objectArray) {
+          appendElement(p, element, buffer, alreadyFormatted, budget);
+        } else {
+          budget.appendElement(buffer, p, element);
+        }
       }
-      if (alreadyFormatted.contains(element)) {
-        buffer.append("[...]");
-        continue;
+      buffer.append(']');
+      if (objectArray) {
+        alreadyFormatted.remove(array);
       }
-      deepToString(p, (Object[]) element, buffer, alreadyFormatted);
+    } finally {
+      budget.exit();
     }
-    buffer.append(']');
-    alreadyFormatted.remove(array);
   }
 
-  private boolean isObjectArray(Object o) {
-    return isArray(o) && !isArrayTypePrimitive(o);
+  private void appendElement(Representation p, Object element, StringBuilder buffer, Set<Object[]> alreadyFormatted,
+                             FormattingBudget budget) {
+    if (element == null) {
+      budget.append(buffer, NULL);
+    } else if (!isArray(element)) {
+      budget.appendElement(buffer, p, element);
+    } else if (alreadyFormatted.contains(element)) {
+      budget.append(buffer, "[...]");
+    } else {
+      appendArray(p, element, buffer, alreadyFormatted);
+    }
   }
 
-  private String formatPrimitiveArray(Representation p, Object o) {
-    if (!isArray(o)) {
-      return null;
-    }
-    if (!isArrayTypePrimitive(o)) {
-      throw notAnArrayOfPrimitives(o);
-    }
-    int size = getLength(o);
-    if (size == 0) {
-      return "[]";
-    }
-    StringBuilder buffer = new StringBuilder();
-    buffer.append('[');
-    buffer.append(p.toStringOf(Array.get(o, 0)));
-    for (int i = 1; i < size; i++) {
-      Object element = Array.get(o, i);
-      buffer.append(", ");
-      buffer.append(p.toStringOf(element));
-    }
-    buffer.append("]");
-    return buffer.toString();
+  private boolean isObjectArray(Object o) {
+    return isArray(o) && !isArrayTypePrimitive(o);
   }
 
   private boolean isArrayTypePrimitive(Object o) {
     return o.getClass().getComponentType().isPrimitive();
   }
-
-  private IllegalArgumentException notAnArrayOfPrimitives(Object o) {
-    return new IllegalArgumentException(String.format("<%s> is not an array of primitives", o));
-  }
 }
@@ -76,6 +76,19 @@ public class Arrays {
     return FORMATTER.format(representation, array);
   }
 
+  /**
+   * Appends the representation of the given array to the given buffer, {@code "null"} if the given object is either
+   * {@code null} or not an array. This method supports arrays having other arrays as elements.
+   *
+   * @param buffer the buffer to write to.
+   * @param representation the representation of the elements, used to write them directly in the given buffer if it is
+   *          a {@link org.assertj.core.presentation.StreamingRepresentation}.
+   * @param array the object that is expected to be an array.
+   */
+  public static void appendTo(StringBuilder buffer, Representation representation, Object array) {
+    FORMATTER.appendTo(buffer, representation, array);
+  }
+
   /**
    * Returns the {@code String} {@link org.assertj.core.presentation.StandardRepresentation standard representation} of
    * the given array, or {@code null} if the given object is either {@code null} or not an array.
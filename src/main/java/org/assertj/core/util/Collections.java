@@ -26,6 +26,7 @@ import java.util.Set;
 
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.presentation.StreamingRepresentation;
 
 /**
  * Utility methods related to {@code Collection}s.
@@ -112,7 +113,8 @@ public final class Collections {
   /**
    * Returns the {@code String} representation of the given {@code Collection}, or {@code null} if the given
    * {@code Collection} is {@code null}.
-   * 
+   * <p>
+   * The elements are written within the limits set in {@link StandardRepresentation}.
    * 
    * @param p
    * @param c the {@code Collection} to format.
@@ -122,19 +124,65 @@ public final class Collections {
     if (c == null) {
       return null;
     }
+    StringBuilder b = new StringBuilder();
+    appendTo(b, p, c, start, end);
+    return b.toString();
+  }
+
+  /**
+   * Appends the representation of the given {@code Collection} to the given buffer, {@code "null"} if the given
+   * {@code Collection} is {@code null}.
+   * <p>
+   * The elements are written within the limits set in {@link StandardRepresentation}, directly in the given buffer if
+   * the given representation is a {@link StreamingRepresentation}.
+   *
+   * @param b the buffer to write to.
+   * @param p the representation of the elements.
+   * @param c the {@code Collection} to format.
+   * @param start the text written before the elements.
+   * @param end the text written after the elements.
+   */
+  public static void appendTo(StringBuilder b, Representation p, Collection<?> c, String start, String end) {
+    if (c == null) {
+      b.append("null");
+      return;
+    }
     Iterator<?> i = c.iterator();
     if (!i.hasNext()) {
-      return start + end;
+      b.append(start).append(end);
+      return;
     }
-    StringBuilder b = new StringBuilder();
-    b.append(start);
-    for (;;) {
-      Object e = i.next();
-      b.append(e == c ? "(this Collection)" : p.toStringOf(e));
-      if (!i.hasNext()) {
-        return b.append(end).toString();
+    FormattingBudget budget = FormattingBudget.enter();
+    try {
+      if (budget.isTooDeep()) {
+        b.append(start).append(FormattingBudget.ELLIPSIS).append(end);
+        return;
+      }
+      int size = c.size();
+      int headSize = budget.headSize(size);
+      int tailStart = size - budget.tailSize(size);
+      b.append(start);
+      for (int index = 0; i.hasNext(); index++) {
+        Object e = i.next();
+        if (index >= headSize && index < tailStart) {
+          // only the first and last elements are written
+          if (index == headSize && budget.appendSeparator(b, ", ")) {
+            budget.appendOmitted(b, tailStart - headSize, "elements");
+          }
+          continue;
+        }
+        if (index > 0 && !budget.appendSeparator(b, ", ")) {
+          break;
+        }
+        if (e == c) {
+          budget.append(b, "(this Collection)");
+        } else {
+          budget.appendElement(b, p, e);
+        }
       }
-      b.append(", ");
+      b.append(end);
+    } finally {
+      budget.exit();
     }
   }
 
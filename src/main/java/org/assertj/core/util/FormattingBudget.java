@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import java.io.IOException;
+
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.presentation.StreamingRepresentation;
+
+/**
+ * Enforces the limits set in {@link StandardRepresentation} while arrays, collections and maps are written.
+ * <p>
+ * Nested containers are formatted through {@link Representation#toStringOf(Object)}, the budget of the outermost
+ * container is thus shared by the thread until it is formatted: text written by a nested container is only charged
+ * once, and nested containers deeper than the maximum depth are not written at all.
+ */
+final class FormattingBudget {
+
+  static final String ELLIPSIS = "...";
+
+  private static final ThreadLocal<FormattingBudget> CURRENT = new ThreadLocal<FormattingBudget>();
+
+  private final int maxElements;
+  private final int maxDepth;
+  private int remaining;
+  private int charged;
+  private int depth;
+  private boolean stopped;
+
+  private FormattingBudget() {
+    maxElements = StandardRepresentation.getMaxElementsForPrinting();
+    maxDepth = StandardRepresentation.getMaxDepthForPrinting();
+    remaining = StandardRepresentation.getMaxLengthForPrinting();
+  }
+
+  /**
+   * Enters a container, each call must be followed by a call to {@link #exit()}.
+   *
+   * @return the budget of the current thread.
+   */
+  static FormattingBudget enter() {
+    FormattingBudget budget = CURRENT.get();
+    if (budget == null) {
+      budget = new FormattingBudget();
+      CURRENT.set(budget);
+    }
+    budget.depth++;
+    return budget;
+  }
+
+  void exit() {
+    if (--depth == 0) CURRENT.remove();
+  }
+
+  /**
+   * @return whether the elements of the entered container must be left out.
+   */
+  boolean isTooDeep() {
+    return depth > maxDepth;
+  }
+
+  /**
+   * @param size the number of elements of a container.
+   * @return the number of elements written before the omitted ones.
+   */
+  int headSize(int size) {
+    return size <= maxElements ? size : (maxElements + 1) / 2;
+  }
+
+  /**
+   * @param size the number of elements of a container.
+   * @return the number of elements written after the omitted ones.
+   */
+  int tailSize(int size) {
+    return size <= maxElements ? 0 : maxElements / 2;
+  }
+
+  /**
+   * Writes the separator preceding an element, or an ellipsis if there is no characters left.
+   *
+   * @param buffer where to write.
+   * @param separator the separator preceding the next element.
+   * @return {@code false} if the next element must not be written.
+   */
+  boolean appendSeparator(StringBuilder buffer, String separator) {
+    if (remaining <= 0) {
+      if (!stopped) buffer.append(separator).append(ELLIPSIS);
+      stopped = true;
+      return false;
+    }
+    append(buffer, separator);
+    return true;
+  }
+
+  void appendOmitted(StringBuilder buffer, int omitted, String elements) {
+    append(buffer, ELLIPSIS + " " + omitted + " more " + elements + " " + ELLIPSIS);
+  }
+
+  /**
+   * Writes the representation of an element, only the characters left are kept.
+   * <p>
+   * A {@link StreamingRepresentation} writes the element directly in the buffer, nested containers included.
+   *
+   * @param buffer where to write.
+   * @param p the representation of the element.
+   * @param element the element to write.
+   */
+  void appendElement(StringBuilder buffer, Representation p, Object element) {
+    if (stopped) return;
+    int chargedBefore = charged;
+    int start = buffer.length();
+    appendTo(buffer, p, element);
+    int alreadyCharged = charged - chargedBefore;
+    if (stopped && alreadyCharged == 0) {
+      buffer.setLength(start);
+      return;
+    }
+    int cost = Math.max(0, buffer.length() - start - alreadyCharged);
+    // the representation of a nested container is already bounded
+    if (cost <= remaining || alreadyCharged > 0) {
+      remaining -= cost;
+      charged += cost;
+      return;
+    }
+    buffer.setLength(start + Math.max(0, remaining));
+    buffer.append(ELLIPSIS);
+    charged += Math.max(0, remaining);
+    remaining = 0;
+    stopped = true;
+  }
+
+  private static void appendTo(StringBuilder buffer, Representation p, Object element) {
+    if (!(p instanceof StreamingRepresentation)) {
+      buffer.append(p.toStringOf(element));
+      return;
+    }
+    try {
+      ((StreamingRepresentation) p).appendTo(buffer, element);
+    } catch (IOException e) {
+      // not thrown by a StringBuilder
+      throw new IllegalStateException(e);
+    }
+  }
+
+  void append(StringBuilder buffer, String s) {
+    if (stopped) return;
+    if (s.length() <= remaining) {
+      buffer.append(s);
+      remaining -= s.length();
+      charged += s.length();
+      return;
+    }
+    buffer.append(s, 0, Math.max(0, remaining)).append(ELLIPSIS);
+    charged += Math.max(0, remaining);
+    remaining = 0;
+    stopped = true;
+  }
+
+}
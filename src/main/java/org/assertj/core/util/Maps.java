@@ -24,6 +24,7 @@ import java.util.concurrent.ConcurrentMap;
 
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.presentation.StreamingRepresentation;
 
 /**
  * Utility methods related to maps.
@@ -91,26 +92,69 @@ public class Maps {
     if (map == null) {
       return null;
     }
+    StringBuilder buffer = new StringBuilder();
+    appendTo(buffer, p, map);
+    return buffer.toString();
+  }
+
+  /**
+   * Appends the representation of the given map to the given buffer, {@code "null"} if the given map is {@code null}.
+   * <p>
+   * The entries are written within the limits set in {@link StandardRepresentation}, directly in the given buffer if
+   * the given representation is a {@link StreamingRepresentation}.
+   *
+   * @param buffer the buffer to write to.
+   * @param p the representation of the keys and values.
+   * @param map the map to format.
+   */
+  public static void appendTo(StringBuilder buffer, Representation p, Map<?, ?> map) {
+    if (map == null) {
+      buffer.append("null");
+      return;
+    }
     Iterator<?> i = map.entrySet().iterator();
     if (!i.hasNext()) {
-      return "{}";
+      buffer.append("{}");
+      return;
     }
-    StringBuilder buffer = new StringBuilder();
-    buffer.append("{");
-    for (;;) {
-      Entry<?, ?> e = (Entry<?, ?>) i.next();
-      buffer.append(format(map, e.getKey(), p));
-      buffer.append('=');
-      buffer.append(format(map, e.getValue(), p));
-      if (!i.hasNext()) {
-        return buffer.append("}").toString();
+    FormattingBudget budget = FormattingBudget.enter();
+    try {
+      if (budget.isTooDeep()) {
+        buffer.append("{").append(FormattingBudget.ELLIPSIS).append("}");
+        return;
       }
-      buffer.append(", ");
+      int size = map.size();
+      int headSize = budget.headSize(size);
+      int tailStart = size - budget.tailSize(size);
+      buffer.append("{");
+      for (int index = 0; i.hasNext(); index++) {
+        Entry<?, ?> e = (Entry<?, ?>) i.next();
+        if (index >= headSize && index < tailStart) {
+          // only the first and last entries are written
+          if (index == headSize && budget.appendSeparator(buffer, ", ")) {
+            budget.appendOmitted(buffer, tailStart - headSize, "entries");
+          }
+          continue;
+        }
+        if (index > 0 && !budget.appendSeparator(buffer, ", ")) {
+          break;
+        }
+        append(buffer, map, e.getKey(), p, budget);
+        budget.append(buffer, "=");
+        append(buffer, map, e.getValue(), p, budget);
+      }
+      buffer.append("}");
+    } finally {
+      budget.exit();
     }
   }
 
-  private static Object format(Map<?, ?> map, Object o, Representation p) {
-    return o == map ? "(this Map)" : p.toStringOf(o);
+  private static void append(StringBuilder buffer, Map<?, ?> map, Object o, Representation p, FormattingBudget budget) {
+    if (o == map) {
+      budget.append(buffer, "(this Map)");
+    } else {
+      budget.appendElement(buffer, p, o);
+    }
   }
 
   private Maps() {
@@ -53,6 +53,9 @@ public final class Objects {
     if (o1 == o2) {
       return true;
     }
+    if (o1.getClass() == o2.getClass() && o1.getClass().getComponentType().isPrimitive()) {
+      return areEqualPrimitiveArrays(o1, o2);
+    }
     int size = Array.getLength(o1);
     if (Array.getLength(o2) != size) {
       return false;
@@ -67,6 +70,19 @@ public final class Objects {
     return true;
   }
 
+  // compares arrays of the same primitive type with java.util.Arrays.equals (tight loops the JIT optimizes, and
+  // intrinsics on recent JVMs) instead of boxing each element, with the same semantics as the wrapper equals methods.
+  private static boolean areEqualPrimitiveArrays(Object o1, Object o2) {
+    if (o1 instanceof byte[]) return java.util.Arrays.equals((byte[]) o1, (byte[]) o2);
+    if (o1 instanceof int[]) return java.util.Arrays.equals((int[]) o1, (int[]) o2);
+    if (o1 instanceof long[]) return java.util.Arrays.equals((long[]) o1, (long[]) o2);
+    if (o1 instanceof char[]) return java.util.Arrays.equals((char[]) o1, (char[]) o2);
+    if (o1 instanceof short[]) return java.util.Arrays.equals((short[]) o1, (short[]) o2);
+    if (o1 instanceof double[]) return java.util.Arrays.equals((double[]) o1, (double[]) o2);
+    if (o1 instanceof float[]) return java.util.Arrays.equals((float[]) o1, (float[]) o2);
+    return java.util.Arrays.equals((boolean[]) o1, (boolean[]) o2);
+  }
+
   /**
    * Returns an array containing the names of the given types.
    *
@@ -85,15 +101,22 @@ public final class Objects {
   }
 
   /**
-   * Returns the hash code for the given object. If the object is {@code null}, this method returns zero. Otherwise
-   * calls the method {@code hashCode} of the given object.
+   * Returns the hash code for the given object. If the object is {@code null}, this method returns zero. If the object
+   * is an array (of objects or of primitives), returns its deep hash code, otherwise calls the method {@code hashCode}
+   * of the given object.
+   * <p>
+   * The returned value is consistent with {@link #areEqual(Object, Object)}: equal objects have the same hash code.
    *
    * @param o the given object.
    * @return the hash code for the given object
    */
   public static int hashCodeFor(Object o) {
     if (o == null) return 0;
-    return isArray(o) ? java.util.Arrays.deepHashCode((Object[]) o) : o.hashCode() ;
+    if (!isArray(o)) return o.hashCode();
+    if (o instanceof Object[]) return java.util.Arrays.deepHashCode((Object[]) o);
+    // primitive array : let deepHashCode pick the right Arrays.hashCode overload, the deep hash code of a one element
+    // array being 31 + the hash code of its element.
+    return java.util.Arrays.deepHashCode(new Object[] { o }) - HASH_CODE_PRIME;
   }
 
   /**
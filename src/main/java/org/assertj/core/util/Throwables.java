@@ -16,7 +16,7 @@ package org.assertj.core.util;
 
 import static org.assertj.core.util.Lists.newArrayList;
 
-import java.util.*;
+import java.util.List;
 
 /**
  * Utility methods related to <code>{@link Throwable}</code>s.
@@ -37,16 +37,12 @@ public final class Throwables {
   }
 
   private static List<StackTraceElement> stackTraceInCurrentThread(String methodToStartFrom) {
-    List<StackTraceElement> filtered = stackTraceInCurrentThread();
-    List<StackTraceElement> toRemove = new ArrayList<StackTraceElement>();
-    for (StackTraceElement e : filtered) {
-      if (methodToStartFrom.equals(e.getMethodName())) {
-        break;
-      }
-      toRemove.add(e);
+    List<StackTraceElement> stackTrace = stackTraceInCurrentThread();
+    int start = 0;
+    while (start < stackTrace.size() && !methodToStartFrom.equals(stackTrace.get(start).getMethodName())) {
+      start++;
     }
-    filtered.removeAll(toRemove);
-    return filtered;
+    return stackTrace.subList(start, stackTrace.size());
   }
 
   private static List<StackTraceElement> stackTraceInCurrentThread() {
@@ -63,7 +59,7 @@ public final class Throwables {
    *   at sun.reflect.NativeConstructorAccessorImpl.newInstance(NativeConstructorAccessorImpl.java:39)
    *   at sun.reflect.DelegatingConstructorAccessorImpl.newInstance(DelegatingConstructorAccessorImpl.java:27)
    *   at java.lang.reflect.Constructor.newInstance(Constructor.java:501)
-   *   at org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34)
+   *   at org.assertj.core.error.ComparisonFailureFactory.newComparisonFailure(ComparisonFailureFactory.java:75)
    *   at org.assertj.core.error.ShouldBeEqual.newComparisonFailure(ShouldBeEqual.java:111)
    *   at org.assertj.core.error.ShouldBeEqual.comparisonFailure(ShouldBeEqual.java:103)
    *   at org.assertj.core.error.ShouldBeEqual.newAssertionError(ShouldBeEqual.java:81)
@@ -85,27 +81,33 @@ public final class Throwables {
    * @param throwable the {@code Throwable} to filter stack trace.
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    // kept elements are written in a single pass
+    StackTraceElement[] filtered = new StackTraceElement[stackTrace.length];
+    int size = 0;
     StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
+    for (StackTraceElement element : stackTrace) {
       if (element.getClassName().contains("org.assert")) {
-        filtered.remove(element);
         // Handle the case when AssertJ builds a ComparisonFailure by reflection (see ShouldBeEqual.newAssertionError
         // method), the stack trace looks like:
         //
         // java.lang.reflect.Constructor.newInstance(Constructor.java:501),
-        // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
+        // org.assertj.core.error.ComparisonFailureFactory.newComparisonFailure(ComparisonFailureFactory.java:75),
         //
         // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
         if (previous != null && previous.getClassName().equals("java.lang.reflect.Constructor")
-            && element.getClassName().contains("org.assertj.core.error.ConstructorInvoker")) {
-          filtered.remove(previous);
+            && element.getClassName().contains("org.assertj.core.error.ComparisonFailureFactory")) {
+          // previous is not AssertJ related, it is the last kept element
+          size--;
         }
+      } else {
+        filtered[size++] = element;
       }
       previous = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[filtered.size()]);
-    throwable.setStackTrace(newStackTrace);
+    if (size < stackTrace.length) {
+      throwable.setStackTrace(java.util.Arrays.copyOf(filtered, size));
+    }
   }
 
   /**
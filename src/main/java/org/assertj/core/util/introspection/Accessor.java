@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Reads a value from objects, typically through a getter or a field compiled once by {@link Accessors}.
+ * <p>
+ * Whatever the way the value is read, failures are reported as with reflection.
+ */
+public interface Accessor {
+
+  /**
+   * Reads the value from the given object.
+   *
+   * @param target the object to read the value from, an instance of the class declaring the accessed member.
+   * @return the read value.
+   * @throws IllegalAccessException if the accessed member is not accessible.
+   * @throws InvocationTargetException if the accessed getter throws an exception, which is the cause of this one.
+   */
+  Object read(Object target) throws IllegalAccessException, InvocationTargetException;
+
+}
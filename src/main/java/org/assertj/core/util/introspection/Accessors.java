@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.util.Maps.newConcurrentHashMap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiles getters and fields into {@link Accessor}s, once per member.
+ * <p>
+ * Accessors are backed by {@code java.lang.invoke.MethodHandle}s: unlike {@link Method#invoke(Object, Object...)}
+ * and {@link Field#get(Object)}, invoking a method handle neither checks accessibility nor boxes arguments in an
+ * array. Accessors of members that can't be unreflected fall back to reflection.
+ */
+public final class Accessors {
+
+  // compiled accessors by member, stored with the class declaring the member not to prevent it from being unloaded.
+  private static final ClassValue<ConcurrentMap<Member, Accessor>> ACCESSORS = new ClassValue<ConcurrentMap<Member, Accessor>>() {
+    @Override
+    protected ConcurrentMap<Member, Accessor> computeValue(Class<?> type) {
+      return newConcurrentHashMap();
+    }
+  };
+
+  /**
+   * Returns an {@link Accessor} invoking the given getter.
+   * <p>
+   * The getter accessibility is checked when compiling it, make it accessible first if needed.
+   *
+   * @param getter a method without parameter.
+   * @return an {@link Accessor} invoking the given getter.
+   */
+  public static Accessor accessorFor(Method getter) {
+    ConcurrentMap<Member, Accessor> accessors = ACCESSORS.get(getter.getDeclaringClass());
+    Accessor accessor = accessors.get(getter);
+    if (accessor == null) {
+      accessor = MethodHandleAccessors.compile(getter);
+      if (accessor == null) accessor = new ReflectiveGetterAccessor(getter);
+      accessors.put(getter, accessor);
+    }
+    return accessor;
+  }
+
+  /**
+   * Returns an {@link Accessor} reading the given field.
+   * <p>
+   * The field accessibility is checked when compiling it, make it accessible first if needed.
+   *
+   * @param field the field to read.
+   * @return an {@link Accessor} reading the given field.
+   */
+  public static Accessor accessorFor(Field field) {
+    ConcurrentMap<Member, Accessor> accessors = ACCESSORS.get(field.getDeclaringClass());
+    Accessor accessor = accessors.get(field);
+    if (accessor == null) {
+      accessor = MethodHandleAccessors.compile(field);
+      if (accessor == null) accessor = new ReflectiveFieldAccessor(field);
+      accessors.put(field, accessor);
+    }
+    return accessor;
+  }
+
+  private static final class ReflectiveGetterAccessor implements Accessor {
+
+    private final Method getter;
+
+    ReflectiveGetterAccessor(Method getter) {
+      this.getter = getter;
+    }
+
+    @Override
+    public Object read(Object target) throws IllegalAccessException, InvocationTargetException {
+      return getter.invoke(target);
+    }
+  }
+
+  private static final class ReflectiveFieldAccessor implements Accessor {
+
+    private final Field field;
+
+    ReflectiveFieldAccessor(Field field) {
+      this.field = field;
+    }
+
+    @Override
+    public Object read(Object target) throws IllegalAccessException {
+      return field.get(target);
+    }
+  }
+
+  private Accessors() {}
+}
@@ -19,7 +19,9 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Iterables.isNullOrEmpty;
+import static org.assertj.core.util.introspection.PropertyPath.compile;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,8 +32,6 @@ import java.util.List;
  */
 public class FieldSupport {
 
-  private static final String SEPARATOR = ".";
-
   private static final FieldSupport INSTANCE = new FieldSupport(true);
 
   private boolean allowExtractingPrivateFields;
@@ -83,13 +83,13 @@ public class FieldSupport {
   public <T> List<T> fieldValues(String fieldName, Class<T> fieldClass, Iterable<?> target) {
 	if (isNullOrEmpty(target)) return emptyList();
 
-	if (isNestedField(fieldName)) {
-	  String firstFieldName = popFieldNameFrom(fieldName);
-	  Iterable<Object> fieldValues = fieldValues(firstFieldName, Object.class, target);
-	  // extract next sub-field values until reaching the last sub-field
-	  return fieldValues(nextFieldNameFrom(fieldName), fieldClass, fieldValues);
+	// the path is compiled once for all elements
+	PropertyPath fieldPath = compile(fieldName);
+	List<T> fieldValues = new ArrayList<T>();
+	for (Object e : target) {
+	  fieldValues.add(fieldValue(fieldPath, fieldClass, e));
 	}
-	return simpleFieldValues(fieldName, fieldClass, target);
+	return unmodifiableList(fieldValues);
   }
 
   public List<Object> fieldValues(String fieldName, Iterable<?> target) {
@@ -113,45 +113,6 @@ public class FieldSupport {
 	return fieldValues(fieldName, fieldClass, wrap(target));
   }
 
-  private <T> List<T> simpleFieldValues(String fieldName, Class<T> clazz, Iterable<?> target) {
-	List<T> fieldValues = new ArrayList<T>();
-	for (Object e : target) {
-	  fieldValues.add(e == null ? null : fieldValue(fieldName, clazz, e));
-	}
-	return unmodifiableList(fieldValues);
-  }
-
-  private String popFieldNameFrom(String fieldNameChain) {
-	if (!isNestedField(fieldNameChain)) {
-	  return fieldNameChain;
-	}
-	return fieldNameChain.substring(0, fieldNameChain.indexOf(SEPARATOR));
-  }
-
-  private String nextFieldNameFrom(String fieldNameChain) {
-	if (!isNestedField(fieldNameChain)) {
-	  return "";
-	}
-	return fieldNameChain.substring(fieldNameChain.indexOf(SEPARATOR) + 1);
-  }
-
-  /**
-   * <pre><code class='java'>
-   * isNestedField(&quot;address.street&quot;); // true
-   * isNestedField(&quot;address.street.name&quot;); // true
-   * isNestedField(&quot;person&quot;); // false
-   * isNestedField(&quot;.name&quot;); // false
-   * isNestedField(&quot;person.&quot;); // false
-   * isNestedField(&quot;person.name.&quot;); // false
-   * isNestedField(&quot;.person.name&quot;); // false
-   * isNestedField(&quot;.&quot;); // false
-   * isNestedField(&quot;&quot;); // false
-   * </code></pre>
-   */
-  private boolean isNestedField(String fieldName) {
-	return fieldName.contains(SEPARATOR) && !fieldName.startsWith(SEPARATOR) && !fieldName.endsWith(SEPARATOR);
-  }
-
   /**
    * Return the value of field from a target object.
    * <p>
@@ -170,32 +131,84 @@ public class FieldSupport {
    */
   public <T> T fieldValue(String fieldName, Class<T> fieldClass, Object target) {
 	if (target == null) return null;
+	return fieldValue(compile(fieldName), fieldClass, target);
+  }
 
-	if (isNestedField(fieldName)) {
-	  String outerFieldName = popFieldNameFrom(fieldName);
-	  Object outerFieldValue = readSimpleField(outerFieldName, Object.class, target);
-	  // extract next sub-field values until reaching the last sub-field
-	  return fieldValue(nextFieldNameFrom(fieldName), fieldClass, outerFieldValue);
+  /**
+   * Return the value of the field designated by the given compiled path from a target object, see
+   * {@link #fieldValue(String, Class, Object)}.
+   * 
+   * @param fieldPath the compiled name of the field, reused across targets.
+   * @param target the given object
+   * @param fieldClass type of field
+   * @return the value of the given field name
+   * @throws IntrospectionError if the given target does not have a field with a matching name.
+   */
+  public <T> T fieldValue(PropertyPath fieldPath, Class<T> fieldClass, Object target) {
+	Object value = target;
+	int lastIndex = fieldPath.length() - 1;
+	// extract sub-field values until reaching the last sub-field
+	for (int i = 0; i < lastIndex && value != null; i++) {
+	  value = readSimpleField(fieldPath, i, Object.class, value);
 	}
-	return readSimpleField(fieldName, fieldClass, target);
+	return value == null ? null : readSimpleField(fieldPath, lastIndex, fieldClass, value);
   }
 
-  private <T> T readSimpleField(String fieldName, Class<T> clazz, Object target) {
+  /**
+   * Returns the value of the field designated by the given compiled path in the given target, or
+   * {@link PropertyPath#NOT_FOUND} if the target or one of the nested values does not have a matching field that can be
+   * read. Unlike {@link #fieldValue(PropertyPath, Class, Object)}, missing fields are not reported by an exception.
+   * 
+   * @param fieldPath the compiled name of the field, reused across targets.
+   * @param target the given object
+   * @return the value of the given field name, {@link PropertyPath#NOT_FOUND} if there is no such field.
+   * @throws IntrospectionError if a matching field can't be read.
+   */
+  public Object findFieldValue(PropertyPath fieldPath, Object target) {
+	Object value = target;
+	for (int i = 0; i < fieldPath.length() && value != null; i++) {
+	  Field field = fieldPath.findField(i, value, allowExtractingPrivateFields);
+	  if (field == null) return PropertyPath.NOT_FOUND;
+	  value = readField(fieldPath.name(i), field, Object.class, value);
+	}
+	return value;
+  }
+
+  private <T> T readSimpleField(PropertyPath fieldPath, int index, Class<T> clazz, Object target) {
+	String fieldName = fieldPath.name(index);
+	Field field;
 	try {
-	  Object readField = FieldUtils.readField(target, fieldName, allowExtractingPrivateFields);
-	  return clazz.cast(readField);
+	  field = fieldPath.field(index, target, allowExtractingPrivateFields);
+	} catch (IllegalAccessException iae) {
+	  throw fieldNotPublicError(fieldName, target, iae);
+	}
+	if (field == null) {
+	  String msg = format("Unable to obtain the value of the field <'%s'> from <%s>", fieldName, target);
+	  String cause = "Cannot locate field " + fieldName + " on " + target.getClass();
+	  throw new IntrospectionError(msg, new IllegalArgumentException(cause));
+	}
+	return readField(fieldName, field, clazz, target);
+  }
+
+  private <T> T readField(String fieldName, Field field, Class<T> clazz, Object target) {
+	try {
+	  return clazz.cast(FieldUtils.readField(field, target));
 	} catch (ClassCastException e) {
 	  String msg = format("Unable to obtain the value of the field <'%s'> from <%s> - wrong field type specified <%s>",
 		                  fieldName, target, clazz);
 	  throw new IntrospectionError(msg, e);
 	} catch (IllegalAccessException iae) {
-	  String msg = format("Unable to obtain the value of the field <'%s'> from <%s>, check that field is public.",
-		                  fieldName, target);
-	  throw new IntrospectionError(msg, iae);
+	  throw fieldNotPublicError(fieldName, target, iae);
 	} catch (Throwable unexpected) {
 	  String msg = format("Unable to obtain the value of the field <'%s'> from <%s>", fieldName, target);
 	  throw new IntrospectionError(msg, unexpected);
 	}
   }
 
+  private static IntrospectionError fieldNotPublicError(String fieldName, Object target, IllegalAccessException iae) {
+	String msg = format("Unable to obtain the value of the field <'%s'> from <%s>, check that field is public.",
+		                fieldName, target);
+	return new IntrospectionError(msg, iae);
+  }
+
 }
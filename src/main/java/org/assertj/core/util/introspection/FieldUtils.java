@@ -12,8 +12,13 @@ package org.assertj.core.util.introspection;
  * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
  * specific language governing permissions and limitations under the License.
  */
+import static org.assertj.core.util.Maps.newConcurrentHashMap;
+import static org.assertj.core.util.introspection.Accessors.accessorFor;
+
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -30,6 +35,18 @@ import java.lang.reflect.Modifier;
  */
 public class FieldUtils {
 
+  // marks field names known not to exist in a class
+  private static final Object NO_FIELD = new Object();
+
+  // fields (or NO_FIELD) of each class by name, resolved once per class and name. A ClassValue stores them along with
+  // their class : unlike with a WeakHashMap, Field objects referencing their class do not prevent it from being unloaded.
+  private static final ClassValue<ConcurrentMap<String, Object>> RESOLVED_FIELDS = new ClassValue<ConcurrentMap<String, Object>>() {
+    @Override
+    protected ConcurrentMap<String, Object> computeValue(Class<?> type) {
+      return newConcurrentHashMap();
+    }
+  };
+
   /**
    * FieldUtils instances should NOT be constructed in standard programming.
    * <p>
@@ -58,6 +75,51 @@ public class FieldUtils {
     if (fieldName == null) {
       throw new IllegalArgumentException("The field name must not be null");
     }
+    Field field = resolveField(cls, fieldName);
+    if (field == null) {
+      return null;
+    }
+    // getDeclaredField checks for non-public scopes as well and it returns accurate results
+    if (!canAccess(field, forceAccess)) {
+      throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
+    }
+    return accessible(field);
+  }
+
+  /**
+   * Returns whether the given field can be read, i.e. whether it is public or scope restrictions can be broken.
+   */
+  static boolean canAccess(Field field, boolean forceAccess) {
+    return forceAccess || Modifier.isPublic(field.getModifiers());
+  }
+
+  /**
+   * Makes the given field accessible if it is not public, scope restrictions must be allowed to be broken.
+   */
+  static Field accessible(Field field) {
+    // resolved fields are shared, their accessibility only needs to be changed once.
+    if (!Modifier.isPublic(field.getModifiers()) && !field.isAccessible()) {
+      field.setAccessible(true);
+    }
+    return field;
+  }
+
+  /**
+   * Returns the field of the given class with the given name whatever its scope, {@code null} if there is none. Fields
+   * are looked up once per class and name, missing ones included.
+   */
+  static Field resolveField(Class<?> cls, String fieldName) {
+    ConcurrentMap<String, Object> resolvedFields = RESOLVED_FIELDS.get(cls);
+    Object field = resolvedFields.get(fieldName);
+    if (field == null) {
+      field = lookUpField(cls, fieldName);
+      if (field == null) field = NO_FIELD;
+      resolvedFields.put(fieldName, field);
+    }
+    return field == NO_FIELD ? null : (Field) field;
+  }
+
+  private static Field lookUpField(final Class<?> cls, String fieldName) {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -74,16 +136,7 @@ public class FieldUtils {
     // check up the superclass hierarchy
     for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
       try {
-        Field field = acls.getDeclaredField(fieldName);
-        // getDeclaredField checks for non-public scopes as well and it returns accurate results
-        if (!Modifier.isPublic(field.getModifiers())) {
-          if (forceAccess) {
-            field.setAccessible(true);
-          } else {
-            throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
-          }
-        }
-        return field;
+        return acls.getDeclaredField(fieldName);
       } catch (NoSuchFieldException ex) { // NOPMD
         // ignore
       }
@@ -116,7 +169,7 @@ public class FieldUtils {
    * @throws IllegalArgumentException if the field is null
    * @throws IllegalAccessException if the field is not accessible
    */
-  private static Object readField(Field field, Object target) throws IllegalAccessException {
+  static Object readField(Field field, Object target) throws IllegalAccessException {
     return readField(field, target, false);
   }
 
@@ -139,7 +192,12 @@ public class FieldUtils {
     } else {
       MemberUtils.setAccessibleWorkaround(field);
     }
-    return field.get(target);
+    try {
+      return accessorFor(field).read(target);
+    } catch (InvocationTargetException e) {
+      // can't happen, reading a field does not invoke any code that could throw.
+      throw new IllegalStateException(e);
+    }
   }
 
   /**
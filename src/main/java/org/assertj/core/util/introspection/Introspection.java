@@ -17,11 +17,14 @@ package org.assertj.core.util.introspection;
 import static java.lang.String.format;
 import static java.lang.reflect.Modifier.isPublic;
 import static java.util.Locale.ENGLISH;
+import static org.assertj.core.util.Maps.newHashMap;
+import static org.assertj.core.util.Maps.newWeakHashMap;
 import static org.assertj.core.util.Preconditions.*;
 import static org.assertj.core.util.Strings.quote;
 
 import java.beans.*;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 
 /**
@@ -31,6 +34,11 @@ import java.lang.reflect.Method;
  * @author Alex Ruiz
  */
 public final class Introspection {
+
+  // properties of the already introspected classes by name, classes are weakly referenced (and so are they by
+  // PropertyDescriptors) not to prevent their class loader from being garbage collected.
+  private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTIES_BY_TYPE = newWeakHashMap();
+
   /**
    * Returns a {@link PropertyDescriptor} for a property matching the given name in the given object.
    * 
@@ -45,19 +53,44 @@ public final class Introspection {
   public static PropertyDescriptor getProperty(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     checkNotNull(target);
+    PropertyDescriptor descriptor = propertiesOf(target.getClass()).get(propertyName);
+    if (descriptor != null) return descriptor;
+    throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target));
+  }
+
+  /**
+   * Returns the {@link PropertyDescriptor} of the property matching the given name in the given type, {@code null} if
+   * there is none. Unlike {@link #getProperty(String, Object)}, a missing property is not reported by an exception.
+   * 
+   * @param propertyName the given property name.
+   * @param type the type to look the property up in.
+   * @return the matching {@code PropertyDescriptor}, {@code null} if there is none.
+   * @throws IntrospectionError if the given type cannot be introspected.
+   */
+  public static PropertyDescriptor findProperty(String propertyName, Class<?> type) {
+    return propertiesOf(type).get(propertyName);
+  }
+
+  private static Map<String, PropertyDescriptor> propertiesOf(Class<?> type) {
+    synchronized (PROPERTIES_BY_TYPE) {
+      Map<String, PropertyDescriptor> properties = PROPERTIES_BY_TYPE.get(type);
+      if (properties != null) return properties;
+    }
     BeanInfo beanInfo = null;
-    Class<?> type = target.getClass();
     try {
       beanInfo = Introspector.getBeanInfo(type);
     } catch (Throwable t) {
       throw new IntrospectionError(format("Unable to get BeanInfo for type %s", type.getName()), t);
     }
+    Map<String, PropertyDescriptor> properties = newHashMap();
     for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
-      if (propertyName.equals(descriptor.getName())) {
-        return descriptor;
-      }
+      properties.put(descriptor.getName(), descriptor);
     }
-    throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target));
+    // introspecting the same class concurrently gives equivalent properties, keeping any of them is fine.
+    synchronized (PROPERTIES_BY_TYPE) {
+      PROPERTIES_BY_TYPE.put(type, properties);
+    }
+    return properties;
   }
 
   private static String propertyNotFoundErrorMessage(String propertyName, Object target) {
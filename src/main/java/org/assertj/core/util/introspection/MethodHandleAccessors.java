@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@link Accessor}s backed by {@link MethodHandle}s, compiled by {@link Accessors}.
+ */
+final class MethodHandleAccessors {
+
+  // every accessor handle is adapted to this type so that it can be called with invokeExact.
+  private static final MethodType ACCESSOR_TYPE = methodType(Object.class, Object.class);
+
+  /**
+   * Returns an {@link Accessor} invoking the given getter, {@code null} if it can't be unreflected.
+   *
+   * @param getter a method without parameter, static or not.
+   * @return an {@link Accessor} invoking the given getter, {@code null} if it can't be unreflected.
+   */
+  static Accessor compile(Method getter) {
+    try {
+      MethodHandle handle = MethodHandles.lookup().unreflect(getter);
+      // as Method.invoke does, ignore the target of static methods.
+      if (isStatic(getter.getModifiers())) handle = dropArguments(handle, 0, Object.class);
+      return new GetterAccessor(handle.asType(ACCESSOR_TYPE));
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns an {@link Accessor} reading the given field, {@code null} if it can't be unreflected.
+   *
+   * @param field the field to read.
+   * @return an {@link Accessor} reading the given field, {@code null} if it can't be unreflected.
+   */
+  static Accessor compile(Field field) {
+    try {
+      MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+      // as Field.get does, ignore the target of static fields.
+      if (isStatic(field.getModifiers())) handle = dropArguments(handle, 0, Object.class);
+      return new FieldAccessor(handle.asType(ACCESSOR_TYPE));
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static final class GetterAccessor implements Accessor {
+
+    private final MethodHandle handle;
+
+    GetterAccessor(MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public Object read(Object target) throws InvocationTargetException {
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (Throwable t) {
+        // like Method.invoke, report what the getter threw as the cause of an InvocationTargetException.
+        throw new InvocationTargetException(t);
+      }
+    }
+  }
+
+  private static final class FieldAccessor implements Accessor {
+
+    private final MethodHandle handle;
+
+    FieldAccessor(MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public Object read(Object target) {
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Throwable t) {
+        // reading a field only throws runtime exceptions (e.g. target of a wrong type) or errors.
+        throw (Error) t;
+      }
+    }
+  }
+
+  private MethodHandleAccessors() {}
+}
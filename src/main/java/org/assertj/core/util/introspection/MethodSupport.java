@@ -15,10 +15,14 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static org.assertj.core.util.Maps.newConcurrentHashMap;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
+import static org.assertj.core.util.introspection.Accessors.accessorFor;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Utillity class for reflective method invocation.
@@ -31,6 +35,14 @@ public class MethodSupport {
   private static final String METHOD_NOT_FOUND = "Can't find method '%s' in class %s.class. Make sure public method " +
                                                    "exists and accepts no arguments!";
 
+  // compiled invokers of the methods of each class by name, see Accessors for why they are stored in a ClassValue.
+  private static final ClassValue<ConcurrentMap<String, Accessor>> INVOKERS = new ClassValue<ConcurrentMap<String, Accessor>>() {
+    @Override
+    protected ConcurrentMap<String, Accessor> computeValue(Class<?> type) {
+      return newConcurrentHashMap();
+    }
+  };
+
   /**
    * Returns result of given method invocation on provided object.
    * <p/>
@@ -50,18 +62,45 @@ public class MethodSupport {
   public static Object methodResultFor(Object instance, String methodName) {
     checkNotNull(instance, "Object instance can not be null!");
     checkNotNullOrEmpty(methodName, "Method name can not be empty!");
-    Method method = findMethod(methodName, instance.getClass());
-    return invokeMethod(instance, method);
+    return invokeMethod(instance, invokerFor(instance.getClass(), methodName));
+  }
+
+  /**
+   * Compiles the invocation of the method with the given name, to get its result from many objects as
+   * {@link #methodResultFor(Object, String)} does.
+   * <p>
+   * The returned {@link MethodCall} remembers the invoker of the method in the last few classes of the objects it has
+   * been given, so that calling it on objects of a few different classes does not look the method up again.
+   * 
+   * @param methodName name of method to be invoked
+   * @return the compiled method invocation.
+   * @throws NullPointerException if the method name is {@code null}.
+   * @throws IllegalArgumentException if the method name is empty.
+   */
+  public static MethodCall compile(String methodName) {
+    checkNotNullOrEmpty(methodName, "Method name can not be empty!");
+    return new MethodCall(methodName);
   }
 
-  private static Object invokeMethod(Object item, Method method) {
+  private static Object invokeMethod(Object item, Accessor invoker) {
     try {
-      return method.invoke(item);
+      return invoker.read(item);
     } catch (Exception e) {
       throw new IllegalStateException(e);
     }
   }
 
+  private static Accessor invokerFor(Class<?> itemClass, String methodName) {
+    ConcurrentMap<String, Accessor> invokers = INVOKERS.get(itemClass);
+    Accessor invoker = invokers.get(methodName);
+    if (invoker == null) {
+      // methods that can't be invoked are not cached, they are looked up again to report it.
+      invoker = accessorFor(findMethod(methodName, itemClass));
+      invokers.put(methodName, invoker);
+    }
+    return invoker;
+  }
+
   private static Method findMethod(String methodName, Class<? extends Object> itemClass) {
     try {
       Method method = itemClass.getMethod(methodName);
@@ -88,4 +127,67 @@ public class MethodSupport {
     }
   }
 
+  /**
+   * The invocation of a method without arguments, compiled once to be called on many objects, see
+   * {@link MethodSupport#compile(String)}.
+   */
+  public static final class MethodCall {
+
+    // up to this number of classes are remembered, objects of other classes look their invoker up in the cache of all
+    // invokers.
+    private static final int MAX_REMEMBERED_CLASSES = 4;
+
+    private final String methodName;
+    // invokers of the method in the classes it has been called on. Replaced by a larger copy when a class is added, so
+    // that it can be read without locking.
+    private volatile ClassInvoker[] classInvokers = new ClassInvoker[0];
+
+    private MethodCall(String methodName) {
+      this.methodName = methodName;
+    }
+
+    /**
+     * Returns result of the method invocation on provided object, see {@link MethodSupport#methodResultFor(Object, String)}.
+     * 
+     * @param instance object on which
+     * @return result of method invocation
+     * @throws IllegalArgumentException if method does not exist or is not public, method returns void or method accepts
+     *           any argument
+     */
+    public Object resultFor(Object instance) {
+      checkNotNull(instance, "Object instance can not be null!");
+      return invokeMethod(instance, invokerFor(instance.getClass()));
+    }
+
+    private Accessor invokerFor(Class<?> itemClass) {
+      ClassInvoker[] knownInvokers = classInvokers;
+      for (ClassInvoker classInvoker : knownInvokers) {
+        if (classInvoker.itemClass == itemClass) return classInvoker.invoker;
+      }
+      Accessor invoker = MethodSupport.invokerFor(itemClass, methodName);
+      if (knownInvokers.length < MAX_REMEMBERED_CLASSES) {
+        ClassInvoker[] newInvokers = Arrays.copyOf(knownInvokers, knownInvokers.length + 1);
+        newInvokers[knownInvokers.length] = new ClassInvoker(itemClass, invoker);
+        classInvokers = newInvokers;
+      }
+      return invoker;
+    }
+
+    @Override
+    public String toString() {
+      return methodName + "()";
+    }
+  }
+
+  private static final class ClassInvoker {
+
+    private final Class<?> itemClass;
+    private final Accessor invoker;
+
+    ClassInvoker(Class<?> itemClass, Accessor invoker) {
+      this.itemClass = itemClass;
+      this.invoker = invoker;
+    }
+  }
+
 }
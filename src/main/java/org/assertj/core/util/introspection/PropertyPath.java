@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.util.introspection.FieldUtils.accessible;
+import static org.assertj.core.util.introspection.FieldUtils.canAccess;
+import static org.assertj.core.util.introspection.Introspection.getProperty;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A possibly nested property or field name (e.g. "address.street.number") split once into the names of its segments,
+ * to be applied to many objects.
+ * <p>
+ * Each segment remembers the property and the field it has been resolved to for the last class it has been applied to,
+ * missing ones included, so applying a path to objects of the same classes only looks up members once.
+ */
+public final class PropertyPath {
+
+  private static final String SEPARATOR = ".";
+
+  /**
+   * Returned instead of a value when a path can't be followed in an object, see
+   * {@link org.assertj.core.internal.PropertySupport#findPropertyValueOf(PropertyPath, Object)} and
+   * {@link FieldSupport#findFieldValue(PropertyPath, Object)}.
+   */
+  public static final Object NOT_FOUND = new Object();
+
+  private final String path;
+  private final String[] names;
+  // last resolution of each segment, replaced when the segment is applied to another class. Resolutions are immutable,
+  // a thread not seeing the one stored by another thread only resolves the segment again.
+  private final Resolution[] properties;
+  private final Resolution[] fields;
+
+  private PropertyPath(String path, String[] names) {
+    this.path = path;
+    this.names = names;
+    properties = new Resolution[names.length];
+    fields = new Resolution[names.length];
+  }
+
+  /**
+   * Splits the given property or field name into the names of its segments.
+   * <p>
+   * Names starting or ending with a dot are not nested, they have a single segment.
+   *
+   * @param path the name of the property or field. It may be a nested name.
+   * @return the compiled path.
+   * @throws NullPointerException if the given name is {@code null}.
+   */
+  public static PropertyPath compile(String path) {
+    List<String> names = new ArrayList<String>();
+    String remainingPath = path;
+    while (isNested(remainingPath)) {
+      int separatorIndex = remainingPath.indexOf(SEPARATOR);
+      names.add(remainingPath.substring(0, separatorIndex));
+      remainingPath = remainingPath.substring(separatorIndex + 1);
+    }
+    names.add(remainingPath);
+    return new PropertyPath(path, names.toArray(new String[names.size()]));
+  }
+
+  /**
+   * <pre><code class='java'>
+   * isNested(&quot;address.street&quot;); // true
+   * isNested(&quot;address.street.name&quot;); // true
+   * isNested(&quot;person&quot;); // false
+   * isNested(&quot;.name&quot;); // false
+   * isNested(&quot;person.&quot;); // false
+   * isNested(&quot;person.name.&quot;); // false
+   * isNested(&quot;.person.name&quot;); // false
+   * isNested(&quot;.&quot;); // false
+   * isNested(&quot;&quot;); // false
+   * </code></pre>
+   */
+  private static boolean isNested(String path) {
+    return path.contains(SEPARATOR) && !path.startsWith(SEPARATOR) && !path.endsWith(SEPARATOR);
+  }
+
+  /**
+   * Returns the number of segments of this path, 1 if it is not nested.
+   *
+   * @return the number of segments of this path.
+   */
+  public int length() {
+    return names.length;
+  }
+
+  /**
+   * Returns the property or field name of the segment at the given index.
+   *
+   * @param index the index of the segment.
+   * @return the property or field name of the segment at the given index.
+   */
+  public String name(int index) {
+    return names[index];
+  }
+
+  /**
+   * Returns the property the segment at the given index designates in the given object.
+   *
+   * @param index the index of the segment.
+   * @param target the object the segment is applied to.
+   * @return the {@code PropertyDescriptor} of the property.
+   * @throws NullPointerException if the given object is {@code null}.
+   * @throws IntrospectionError if a matching property cannot be found or accessed.
+   */
+  public PropertyDescriptor property(int index, Object target) {
+    PropertyDescriptor property = findProperty(index, target);
+    // only looked up again to report why the property is missing
+    return property != null ? property : getProperty(names[index], target);
+  }
+
+  /**
+   * Returns the property the segment at the given index designates in the given object, {@code null} if there is none.
+   * Unlike {@link #property(int, Object)}, a missing property is not reported by an exception, so that looking up names
+   * that are not properties (e.g. fields) is cheap.
+   *
+   * @param index the index of the segment.
+   * @param target the object the segment is applied to.
+   * @return the {@code PropertyDescriptor} of the property, {@code null} if there is none.
+   * @throws NullPointerException if the given object is {@code null}.
+   * @throws IntrospectionError if the class of the given object cannot be introspected.
+   */
+  public PropertyDescriptor findProperty(int index, Object target) {
+    Class<?> type = target.getClass();
+    Resolution resolution = properties[index];
+    if (resolution == null || resolution.type != type) {
+      resolution = new Resolution(type, Introspection.findProperty(names[index], type));
+      properties[index] = resolution;
+    }
+    return (PropertyDescriptor) resolution.member;
+  }
+
+  /**
+   * Returns the field the segment at the given index designates in the given object, as
+   * {@link FieldUtils#getField(Class, String, boolean)} does.
+   */
+  Field field(int index, Object target, boolean forceAccess) throws IllegalAccessException {
+    Field field = resolveField(index, target);
+    if (field == null) return null;
+    if (!canAccess(field, forceAccess)) {
+      throw new IllegalAccessException("can not access" + field.getName() + " because it is not public");
+    }
+    return accessible(field);
+  }
+
+  /**
+   * Returns the field the segment at the given index designates in the given object, {@code null} if there is none or if
+   * it can't be accessed.
+   */
+  Field findField(int index, Object target, boolean forceAccess) {
+    Field field = resolveField(index, target);
+    return field != null && canAccess(field, forceAccess) ? accessible(field) : null;
+  }
+
+  private Field resolveField(int index, Object target) {
+    Class<?> type = target.getClass();
+    Resolution resolution = fields[index];
+    if (resolution == null || resolution.type != type) {
+      resolution = new Resolution(type, FieldUtils.resolveField(type, names[index]));
+      fields[index] = resolution;
+    }
+    return (Field) resolution.member;
+  }
+
+  @Override
+  public String toString() {
+    return path;
+  }
+
+  // what a segment designates in a class, null if it designates nothing.
+  private static final class Resolution {
+
+    private final Class<?> type;
+    private final Object member;
+
+    Resolution(Class<?> type, Object member) {
+      this.type = type;
+      this.member = member;
+    }
+  }
+
+}
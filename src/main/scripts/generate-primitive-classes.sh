@@ -0,0 +1,69 @@
+#!/bin/bash
+
+function usage() {
+  echo
+  echo "NAME"
+  echo "generate-primitive-classes.sh - Generate the internal classes specialized for each primitive type"
+  echo
+  echo "Each src/main/scripts/templates/Primitive<Name>.java.template generates a <Type><Name>.java class per primitive type, where:"
+  echo " - \${type}, \${Type} and \${Wrapper} are replaced by the primitive type, its capitalized name and its wrapper class"
+  echo " - \${key} is replaced by the primitive type used to store values in hash tables (e.g. long for double)"
+  echo " - lines ending with '// only:<types>' are only kept for the given comma separated types"
+  echo " - lines ending with '// except:<types>' are kept for all types but the given ones"
+  echo
+  echo "SYNOPSIS"
+  echo "generate-primitive-classes.sh"
+  echo
+  echo "OPTIONS"
+  echo " -h --help    this help"
+  echo
+  echo "Run it from the project root directory after having changed a template."
+  exit 0
+}
+
+if [ "$1" == "-h" -o "$1" == "--help" ] ;
+then
+ usage
+fi
+
+TEMPLATES_DIR=src/main/scripts/templates
+TARGET_DIR=src/main/java/org/assertj/core/internal
+
+if [ ! -d $TEMPLATES_DIR ] ;
+then
+ echo "$TEMPLATES_DIR not found, run this script from the project root directory."
+ exit 1
+fi
+
+function generate() {
+  local template=$1 type=$2 Type=$3 Wrapper=$4 key=$5
+  local name=$(basename $template .java.template)
+  local target=$TARGET_DIR/${Type}${name#Primitive}.java
+  awk -v type=$type '
+    match($0, / *\/\/ (only|except):[a-z,]+$/) {
+      marker = substr($0, RSTART, RLENGTH)
+      sub(/^ *\/\/ /, "", marker)
+      split(marker, parts, ":")
+      listed = index("," parts[2] ",", "," type ",") > 0
+      if ((parts[1] == "only") != listed) next
+      $0 = substr($0, 1, RSTART - 1)
+    }
+    { print }
+  ' $template | sed -e "s/\${type}/${type}/g" \
+                    -e "s/\${Type}/${Type}/g" \
+                    -e "s/\${Wrapper}/${Wrapper}/g" \
+                    -e "s/\${key}/${key}/g" > $target
+  echo "generated $target"
+}
+
+for template in $TEMPLATES_DIR/Primitive*.java.template ;
+do
+  generate $template int Int Integer int
+  generate $template long Long Long long
+  generate $template double Double Double long
+  generate $template float Float Float int
+  generate $template byte Byte Byte byte
+  generate $template short Short Short short
+  generate $template char Char Character char
+  generate $template boolean Boolean Boolean byte
+done
@@ -8,6 +8,7 @@ import java.util.List;
 import org.assertj.core.util.Lists;
 import org.junit.Test;
 import org.junit.runners.model.MultipleFailureException;
+import org.junit.runners.model.Statement;
 
 public class JUnitSoftAssertionsFailureTest {
 
@@ -37,4 +38,28 @@ public class JUnitSoftAssertionsFailureTest {
                                                                      "  <[2]>\n");
     }
   }
+
+  @Test
+  public void should_report_failures_without_location_of_assertions_if_stack_trace_is_skipped() throws Throwable {
+    Statement test = new Statement() {
+      @Override
+      public void evaluate() {
+        softly.assertThat(Lists.newArrayList(1, 2)).containsOnly(1, 3);
+      }
+    };
+    Assertions.setSkipStackTraceOfCollectedFailures(true);
+    try {
+      softly.apply(test, null).evaluate();
+      fail("Should not reach here");
+    } catch (AssertionError e) {
+      // filled in when reported by the rule, with AssertJ (and thus these tests) elements removed: only the elements of
+      // the runner calling the rule are left, neither the test method nor the line of the failed assertion.
+      assertThat(e.getStackTrace()).isNotEmpty();
+      for (StackTraceElement element : e.getStackTrace()) {
+        assertThat(element.getClassName()).doesNotContain("org.assertj");
+      }
+    } finally {
+      Assertions.setSkipStackTraceOfCollectedFailures(false);
+    }
+  }
 }
@@ -203,4 +203,24 @@ public class SoftAssertionsTest {
 	}
   }
 
+
+  @Test
+  public void should_report_values_as_they_were_when_assertions_failed() {
+	List<String> list = Lists.newArrayList("a");
+	SoftAssertions softly = new SoftAssertions();
+	softly.assertThat(list).contains("b");
+	list.add("b");
+	try {
+	  softly.assertAll();
+	  fail("Should not reach here");
+	} catch (SoftAssertionError e) {
+	  assertThat(e.getErrors()).containsExactly("\nExpecting:\n" +
+		                                        " <[\"a\"]>\n" +
+		                                        "to contain:\n" +
+		                                        " <[\"b\"]>\n" +
+		                                        "but could not find:\n" +
+		                                        " <[\"b\"]>\n");
+	}
+  }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.lang.reflect.Constructor;
+
+import org.junit.Before;
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ComparisonFailureFactory#newComparisonFailure(String, String, String)}</code> and
+ * <code>{@link ComparisonFailureFactory#register(Class)}</code>.
+ */
+public class ComparisonFailureFactory_newComparisonFailure_Test {
+
+  private ComparisonFailureFactory factory;
+
+  @Before
+  public void setUp() {
+    factory = new ComparisonFailureFactory();
+  }
+
+  @Test
+  public void should_create_JUnit_ComparisonFailure_by_default() throws Exception {
+    AssertionError failure = factory.newComparisonFailure("[Jedi]", "\"Yoda\"", "\"Luke\"");
+    assertThat(failure).isInstanceOf(ComparisonFailure.class);
+    assertThat(((ComparisonFailure) failure).getExpected()).isEqualTo("\"Yoda\"");
+    assertThat(((ComparisonFailure) failure).getActual()).isEqualTo("\"Luke\"");
+  }
+
+  @Test
+  public void should_create_failure_of_last_registered_type() throws Exception {
+    factory.register(OtherComparisonFailure.class);
+    factory.register(CustomComparisonFailure.class);
+    AssertionError failure = factory.newComparisonFailure("[Jedi]", "\"Yoda\"", "\"Luke\"");
+    assertThat(failure).isInstanceOf(CustomComparisonFailure.class);
+    assertThat(((CustomComparisonFailure) failure).expected).isEqualTo("\"Yoda\"");
+    assertThat(((CustomComparisonFailure) failure).actual).isEqualTo("\"Luke\"");
+  }
+
+  @Test
+  public void should_look_up_JUnit_failure_type_once() throws Exception {
+    CountingLookupsFactory factory = new CountingLookupsFactory();
+    AssertionError first = factory.newComparisonFailure("[Jedi]", "\"Yoda\"", "\"Luke\"");
+    AssertionError second = factory.newComparisonFailure("[Sith]", "\"Vader\"", "\"Maul\"");
+    assertThat(second).isNotSameAs(first).isExactlyInstanceOf(ComparisonFailure.class);
+    assertThat(factory.lookups).isEqualTo(1);
+  }
+
+  @Test
+  public void should_replace_looked_up_failure_type_by_type_registered_afterwards() throws Exception {
+    CountingLookupsFactory factory = new CountingLookupsFactory();
+    factory.newComparisonFailure("[Jedi]", "\"Yoda\"", "\"Luke\"");
+    factory.register(CustomComparisonFailure.class);
+    AssertionError first = factory.newComparisonFailure("[Jedi]", "\"Yoda\"", "\"Luke\"");
+    AssertionError second = factory.newComparisonFailure("[Sith]", "\"Vader\"", "\"Maul\"");
+    assertThat(first).isInstanceOf(CustomComparisonFailure.class);
+    assertThat(second).isInstanceOf(CustomComparisonFailure.class);
+    assertThat(factory.lookups).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_look_up_JUnit_failure_type_if_a_type_is_registered() throws Exception {
+    CountingLookupsFactory factory = new CountingLookupsFactory();
+    factory.register(CustomComparisonFailure.class);
+    factory.newComparisonFailure("[Jedi]", "\"Yoda\"", "\"Luke\"");
+    assertThat(factory.lookups).isEqualTo(0);
+  }
+
+  @Test
+  public void should_fail_if_registered_type_has_no_comparison_failure_constructor() {
+    try {
+      factory.register(AssertionError.class);
+      failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("java.lang.AssertionError has no public constructor taking the message, the expected "
+                               + "and the actual values as Strings");
+    }
+  }
+
+  private static class CountingLookupsFactory extends ComparisonFailureFactory {
+
+    private int lookups;
+
+    @Override
+    Constructor<?> lookUpJUnitConstructor() {
+      lookups++;
+      return super.lookUpJUnitConstructor();
+    }
+  }
+
+  public static class CustomComparisonFailure extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String expected;
+    private final String actual;
+
+    public CustomComparisonFailure(String message, String expected, String actual) {
+      super(message);
+      this.expected = expected;
+      this.actual = actual;
+    }
+  }
+
+  public static class OtherComparisonFailure extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    public OtherComparisonFailure(String message, String expected, String actual) {
+      super(message);
+    }
+  }
+
+}
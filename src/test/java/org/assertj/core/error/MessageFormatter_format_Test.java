@@ -66,4 +66,18 @@ public class MessageFormatter_format_Test {
     assertEquals("[Test] Hello \"World\"", s);
     verify(descriptionFormatter).format(description);
   }
+
+  @Test
+  public void should_write_arguments_referenced_several_times_once() {
+    Representation representation = spy(new StandardRepresentation());
+    Object world = new Object() {
+      @Override
+      public String toString() {
+        return "World";
+      }
+    };
+    String s = messageFormatter.format(null, representation, "Hello %s, hello again %s", world, world);
+    assertEquals("Hello World, hello again World", s);
+    verify(representation, times(1)).toStringOf(world);
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldBeEqualByComparingFieldByFieldRecursively.shouldBeEqualByComparingFieldByFieldRecursively;
+import static org.assertj.core.internal.DeepDifference.determineDifferences;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldBeEqualByComparingFieldByFieldRecursively#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * .
+ */
+public class ShouldBeEqualByComparingFieldByFieldRecursively_create_Test {
+
+  @Test
+  public void should_create_error_message_with_paths_of_differences() {
+    List<Employee> actual = newArrayList(new Employee(1L, new Name("Luke"), 26));
+    List<Employee> other = newArrayList(new Employee(1L, new Name("Luke"), 800));
+    ErrorMessageFactory factory = shouldBeEqualByComparingFieldByFieldRecursively(actual, other,
+                                                                                  determineDifferences(actual, other));
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \n" +
+                                  "Expecting:\n" +
+                                  "  <" + actual + ">\n" +
+                                  "to be equal to:\n" +
+                                  "  <" + other + ">\n" +
+                                  "when recursively comparing field by field, but found the following difference(s):\n" +
+                                  "\n" +
+                                  "Path to difference: <[0].age>\n" +
+                                  "- expected: <800>\n" +
+                                  "- actual  : <26>");
+  }
+
+  @Test
+  public void should_create_error_message_with_difference_of_compared_objects() {
+    List<String> actual = newArrayList("Luke");
+    List<String> other = newArrayList("Luke", "Leia");
+    ErrorMessageFactory factory = shouldBeEqualByComparingFieldByFieldRecursively(actual, other,
+                                                                                  determineDifferences(actual, other));
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \n" +
+                                  "Expecting:\n" +
+                                  "  <[\"Luke\"]>\n" +
+                                  "to be equal to:\n" +
+                                  "  <[\"Luke\", \"Leia\"]>\n" +
+                                  "when recursively comparing field by field, but found the following difference(s):\n" +
+                                  "\n" +
+                                  "Difference between the compared objects:\n" +
+                                  "- expected: <[\"Luke\", \"Leia\"]>\n" +
+                                  "- actual  : <[\"Luke\"]>");
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldBeEqualByteArrays.shouldBeEqualByteArrays;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ShouldBeEqualByteArrays#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>.
+ */
+public class ShouldBeEqualByteArrays_create_Test {
+
+  @Test
+  public void should_create_error_message_showing_bytes_around_first_difference() {
+    byte[] actual = new byte[100];
+    byte[] expected = new byte[100];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = expected[i] = (byte) i;
+    }
+    expected[50] = (byte) 0xFF;
+    String message = shouldBeEqualByteArrays(actual, expected).create(new TextDescription("Test"),
+                                                                      new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \nExpecting byte arrays to be equal but they differ at offset <50>, "
+                                  + "expecting (length <100>):\n"
+                                  + " <... 2A 2B 2C 2D 2E 2F 30 31 [FF] 33 34 35 36 37 38 39 3A ...>\n"
+                                  + "but was (length <100>):\n"
+                                  + " <... 2A 2B 2C 2D 2E 2F 30 31 [32] 33 34 35 36 37 38 39 3A ...>");
+  }
+
+  @Test
+  public void should_create_error_message_showing_end_of_shortest_array() {
+    String message = shouldBeEqualByteArrays(new byte[] { 1, 2 }, new byte[] { 1, 2, 3 }).create(new TextDescription("Test"),
+                                                                                              new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \nExpecting byte arrays to be equal but they differ at offset <2>, "
+                                  + "expecting (length <3>):\n <01 02 [03]>\nbut was (length <2>):\n <01 02 [EOF]>");
+  }
+
+}
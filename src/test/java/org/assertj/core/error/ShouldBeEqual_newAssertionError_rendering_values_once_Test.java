@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.assertj.core.internal.TestDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ShouldBeEqual#newAssertionError(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * writing actual and expected only once.
+ */
+public class ShouldBeEqual_newAssertionError_rendering_values_once_Test {
+
+  private final CountingRepresentation representation = new CountingRepresentation();
+
+  @Test
+  public void should_write_values_once_when_they_have_different_representations() {
+    Object actual = new Person("Luke");
+    Object expected = new Person("Yoda");
+    shouldBeEqual(actual, expected, representation).newAssertionError(new TestDescription("Jedi"), representation);
+    assertThat(representation.count(actual)).isEqualTo(1);
+    assertThat(representation.count(expected)).isEqualTo(1);
+  }
+
+  @Test
+  public void should_write_values_once_when_they_have_the_same_representation() {
+    Object actual = new Person("Luke");
+    Object expected = new Person("Luke");
+    AssertionErrorFactory factory = shouldBeEqual(actual, expected, representation);
+    AssertionError error = factory.newAssertionError(new TestDescription("Jedi"), representation);
+    assertThat(error.getMessage()).contains("Luke (Person@");
+    assertThat(representation.count(actual)).isEqualTo(1);
+    assertThat(representation.count(expected)).isEqualTo(1);
+  }
+
+  private static class Person {
+
+    private final String name;
+
+    private Person(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  private static class CountingRepresentation extends StandardRepresentation {
+
+    private final Map<Object, Integer> counts = new IdentityHashMap<Object, Integer>();
+
+    @Override
+    public String toStringOf(Object object) {
+      counts.put(object, count(object) + 1);
+      return super.toStringOf(object);
+    }
+
+    private int count(Object object) {
+      Integer count = counts.get(object);
+      return count == null ? 0 : count;
+    }
+  }
+
+}
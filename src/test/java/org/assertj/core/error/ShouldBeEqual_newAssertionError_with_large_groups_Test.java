@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.internal.TestDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldBeEqual#newAssertionError(Description, org.assertj.core.presentation.Representation)}</code>
+ * when large lists or arrays are compared.
+ */
+public class ShouldBeEqual_newAssertionError_with_large_groups_Test {
+
+  private final Description description = new TestDescription("my test");
+
+  @Test
+  public void should_only_display_differences_of_large_arrays() {
+    int[] actual = new int[30];
+    int[] expected = new int[31];
+    for (int i = 0; i < expected.length; i++) {
+      if (i < actual.length) actual[i] = i;
+      expected[i] = i;
+    }
+    actual[0] = -1;
+
+    AssertionError error = shouldBeEqual(actual, expected, new StandardRepresentation()).newAssertionError(description,
+                                                                                                            new StandardRepresentation());
+
+    assertThat(error.getMessage()).isEqualTo("[my test] \n"
+                                             + "Expecting actual to be equal to expected\n"
+                                             + "but found the following differences (\"-\" expected elements not found, \"+\" actual elements not expected):\n"
+                                             + "\n"
+                                             + "at index 0 of actual and 0 of expected:\n"
+                                             + "+ <-1>\n"
+                                             + "- <0>\n"
+                                             + "  <1>\n"
+                                             + "  <2>\n"
+                                             + "\n"
+                                             + "at index 28 of actual and 28 of expected:\n"
+                                             + "  <28>\n"
+                                             + "  <29>\n"
+                                             + "- <30>");
+  }
+
+  @Test
+  public void should_display_small_lists_in_full() {
+    List<String> actual = new ArrayList<String>();
+    actual.add("Luke");
+    List<String> expected = new ArrayList<String>();
+    expected.add("Yoda");
+
+    AssertionError error = shouldBeEqual(actual, expected, new StandardRepresentation()).newAssertionError(description,
+                                                                                                            new StandardRepresentation());
+
+    assertThat(error.getMessage()).doesNotContain("differences");
+  }
+
+}
@@ -23,7 +23,6 @@ import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
-import static org.assertj.core.util.Arrays.array;
 import static org.mockito.Mockito.*;
 
 
@@ -37,14 +36,14 @@ public class ShouldBeEqual_newAssertionError_without_JUnit_Test {
 
   private Description description;
   private ShouldBeEqual factory;
-  private ConstructorInvoker constructorInvoker;
+  private ComparisonFailureFactory comparisonFailureFactory;
 
   @Before
   public void setUp() {
     description = new TestDescription("Jedi");
     factory = (ShouldBeEqual) shouldBeEqual("Luke", "Yoda", new StandardRepresentation());
-    constructorInvoker = mock(ConstructorInvoker.class);
-    factory.constructorInvoker = constructorInvoker;
+    comparisonFailureFactory = mock(ComparisonFailureFactory.class);
+    factory.comparisonFailureFactory = comparisonFailureFactory;
   }
 
   @Test
@@ -61,19 +60,18 @@ public class ShouldBeEqual_newAssertionError_without_JUnit_Test {
     check(error);
   }
 
-  private Object createComparisonFailure() throws Exception {
-    return createComparisonFailure(constructorInvoker);
+  private AssertionError createComparisonFailure() throws Exception {
+    return createComparisonFailure(comparisonFailureFactory);
   }
 
   private void check(AssertionError error) throws Exception {
-    createComparisonFailure(verify(constructorInvoker));
+    createComparisonFailure(verify(comparisonFailureFactory));
     assertThat(error).isNotInstanceOf(ComparisonFailure.class);
     assertThat(error.getMessage())
         .isEqualTo("[Jedi] \nExpecting:\n <\"Luke\">\nto be equal to:\n <\"Yoda\">\nbut was not.");
   }
 
-  private static Object createComparisonFailure(ConstructorInvoker invoker) throws Exception {
-    return invoker.newInstance(ComparisonFailure.class.getName(), new Class<?>[] { String.class, String.class, String.class },
-        array("[Jedi]", "\"Yoda\"", "\"Luke\""));
+  private static AssertionError createComparisonFailure(ComparisonFailureFactory factory) throws Exception {
+    return factory.newComparisonFailure("[Jedi]", "\"Yoda\"", "\"Luke\"");
   }
 }
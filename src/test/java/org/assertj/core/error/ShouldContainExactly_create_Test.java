@@ -25,7 +25,11 @@ import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.CaseInsensitiveStringComparator;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Tests for
@@ -141,4 +145,65 @@ public class ShouldContainExactly_create_Test {
 	                                  + "  <\"Han\">\n"
 	                                  + "when comparing values using 'CaseInsensitiveStringComparator'");
   }
+
+  @Test
+  public void should_only_display_differences_of_large_groups_of_elements() {
+	List<Integer> actual = new ArrayList<Integer>();
+	for (int i = 0; i < 30; i++) {
+	  actual.add(i);
+	}
+	List<Integer> expected = new ArrayList<Integer>(actual);
+	actual.set(10, -1);
+	expected.remove(25);
+	ErrorMessageFactory factory = shouldContainExactly(actual, expected, newLinkedHashSet(10), newLinkedHashSet(-1, 25));
+
+	String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+
+	assertThat(message).isEqualTo("[Test] \n"
+	                              + "Expecting actual to contain exactly (and in same order) the expected elements\n"
+	                              + "but found the following differences (\"-\" expected elements not found, \"+\" actual elements not expected):\n"
+	                              + "\n"
+	                              + "at index 8 of actual and 8 of expected:\n"
+	                              + "  <8>\n"
+	                              + "  <9>\n"
+	                              + "+ <-1>\n"
+	                              + "- <10>\n"
+	                              + "  <11>\n"
+	                              + "  <12>\n"
+	                              + "\n"
+	                              + "at index 23 of actual and 23 of expected:\n"
+	                              + "  <23>\n"
+	                              + "  <24>\n"
+	                              + "+ <25>\n"
+	                              + "  <26>\n"
+	                              + "  <27>\n");
+  }
+
+  @Test
+  public void should_only_compute_differences_of_large_groups_of_elements_when_message_is_created() {
+	List<String> actual = new ArrayList<String>();
+	for (int i = 0; i < 30; i++) {
+	  actual.add("element " + i);
+	}
+	List<String> expected = new ArrayList<String>(actual);
+	expected.set(10, "other element");
+	final AtomicInteger comparisons = new AtomicInteger();
+	Comparator<String> countingComparator = new Comparator<String>() {
+	  @Override
+	  public int compare(String s1, String s2) {
+		comparisons.incrementAndGet();
+		return s1.compareTo(s2);
+	  }
+	};
+	ErrorMessageFactory factory = shouldContainExactly(actual, expected, newLinkedHashSet("other element"),
+	                                                   newLinkedHashSet("element 10"),
+	                                                   new ComparatorBasedComparisonStrategy(countingComparator));
+	assertThat(comparisons.get()).isZero();
+
+	String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+
+	assertThat(comparisons.get()).isPositive();
+	assertThat(message).contains("at index 8 of actual and 8 of expected:\n",
+	                             "+ <\"element 10\">\n- <\"other element\">\n");
+  }
 }
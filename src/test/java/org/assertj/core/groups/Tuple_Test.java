@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Tuple}</code>.
+ */
+public class Tuple_Test {
+
+  @Test
+  public void should_be_equal_to_tuple_with_equal_values() {
+	assertThat(tuple("Yoda", 800)).isEqualTo(tuple("Yoda", 800)).isNotEqualTo(tuple("Yoda", 26))
+	                              .isNotEqualTo(tuple("Yoda"));
+	assertThat(tuple("Yoda", 800).hashCode()).isEqualTo(tuple("Yoda", 800).hashCode());
+  }
+
+  @Test
+  public void should_have_same_hash_code_as_list_of_its_values() {
+	assertThat(tuple("Yoda", null, 800).hashCode()).isEqualTo(31 + Arrays.asList("Yoda", null, 800).hashCode());
+  }
+
+  @Test
+  public void should_update_hash_code_when_data_is_added() {
+	Tuple tuple = tuple("Yoda");
+	int hashCode = tuple.hashCode();
+	tuple.addData(800);
+	assertThat(tuple).isEqualTo(tuple("Yoda", 800));
+	assertThat(tuple.hashCode()).isNotEqualTo(hashCode).isEqualTo(tuple("Yoda", 800).hashCode());
+  }
+
+  @Test
+  public void should_compare_and_hash_current_values_of_mutable_elements() {
+	List<String> names = newArrayList("Yoda");
+	Tuple tuple = tuple(names);
+	int hashCode = tuple.hashCode();
+	names.add("Luke");
+	assertThat(tuple).isEqualTo(tuple(newArrayList("Yoda", "Luke")));
+	assertThat(tuple.hashCode()).isNotEqualTo(hashCode).isEqualTo(tuple(newArrayList("Yoda", "Luke")).hashCode());
+  }
+
+  @Test
+  public void should_not_be_affected_by_changes_to_given_or_returned_arrays() {
+	Object[] values = { "Yoda", 800 };
+	Tuple tuple = new Tuple(values);
+	values[0] = "Luke";
+	tuple.toArray()[1] = 26;
+	assertThat(tuple.toArray()).containsExactly("Yoda", 800);
+	assertThat(tuple.toString()).isEqualTo("(\"Yoda\", 800)");
+  }
+
+}
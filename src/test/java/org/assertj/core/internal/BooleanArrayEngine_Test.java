@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BooleanArrayEngine}, false being less than true.
+ */
+public class BooleanArrayEngine_Test {
+
+  private final PrimitiveArrayEngine engine = PrimitiveArrayEngine.engineFor(new boolean[0]);
+
+  @Test
+  public void should_tell_which_values_are_contained() {
+    boolean[] contained = engine.contained(new boolean[] { true, true, true }, new boolean[] { false, true });
+    assertThat(contained).containsExactly(false, true);
+  }
+
+  @Test
+  public void should_tell_whether_array_has_duplicates() {
+    assertThat(engine.hasDuplicates(new boolean[] { true, false })).isFalse();
+    assertThat(engine.hasDuplicates(new boolean[] { true, false, true })).isTrue();
+  }
+
+  @Test
+  public void should_return_index_of_first_unsorted_element() {
+    assertThat(engine.indexOfFirstUnsortedElement(new boolean[] { false, false, true })).isEqualTo(-1);
+    assertThat(engine.indexOfFirstUnsortedElement(new boolean[] { false, true, false })).isEqualTo(1);
+  }
+
+}
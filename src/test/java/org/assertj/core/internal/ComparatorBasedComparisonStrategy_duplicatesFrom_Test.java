@@ -22,6 +22,7 @@ import static org.junit.Assert.*;
 import java.util.ArrayList;
 
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.test.Jedi;
 import org.junit.Test;
 
 /**
@@ -41,6 +42,15 @@ public class ComparatorBasedComparisonStrategy_duplicatesFrom_Test extends Abstr
     assertTrue(caseInsensitiveComparisonStrategy.iterableContains(duplicates, null));
   }
 
+  @Test
+  public void should_return_existing_duplicates_according_to_field_by_field_comparator() {
+    ComparatorBasedComparisonStrategy fieldByFieldComparisonStrategy = new ComparatorBasedComparisonStrategy(new FieldByFieldComparator());
+    Jedi otherLuke = new Jedi("Luke", "Green");
+    Iterable<?> duplicates = fieldByFieldComparisonStrategy.duplicatesFrom(newArrayList(new Jedi("Yoda", "Green"),
+        new Jedi("Luke", "Green"), otherLuke, new Jedi("Luke", "Green")));
+    assertEquals(newArrayList(otherLuke), duplicates);
+  }
+
   @Test
   public void should_not_return_any_duplicates() {
     Iterable<?> duplicates = caseInsensitiveComparisonStrategy.duplicatesFrom(newArrayList("Frodo", "Sam", "Gandalf"));
@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.DeepDifference.determineDifferences;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.internal.DeepDifference.Difference;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link DeepDifference#determineDifferences(Object, Object)}</code>.
+ */
+public class DeepDifference_determineDifferences_Test {
+
+  @Test
+  public void should_find_no_differences_in_graphs_of_objects_not_overriding_equals() {
+    assertThat(determineDifferences(new Node("Yoda", new Node("Luke")), new Node("Yoda", new Node("Luke")))).isEmpty();
+  }
+
+  @Test
+  public void should_report_paths_of_differences() {
+    Node actual = new Node("Yoda", new Node("Luke"));
+    actual.children = newArrayList(new Node("Leia"), new Node("Han"));
+    Node other = new Node("Yoda", new Node("Anakin"));
+    other.children = newArrayList(new Node("Leia"), new Node("Chewie"));
+    List<Difference> differences = determineDifferences(actual, other);
+    assertThat(differences).hasSize(2);
+    assertThat(differences.get(0).getPath()).isEqualTo("next.name");
+    assertThat(differences.get(0).getActual()).isEqualTo("Luke");
+    assertThat(differences.get(0).getOther()).isEqualTo("Anakin");
+    assertThat(differences.get(1).getPath()).isEqualTo("children[1].name");
+  }
+
+  @Test
+  public void should_terminate_on_cyclic_graphs() {
+    Node actual = new Node("Yoda", new Node("Luke"));
+    actual.next.next = actual;
+    Node other = new Node("Yoda", new Node("Luke"));
+    other.next.next = other;
+    assertThat(determineDifferences(actual, other)).isEmpty();
+    other.next.name = "Leia";
+    assertThat(determineDifferences(actual, other)).hasSize(1);
+  }
+
+  @Test
+  public void should_compare_sets_regardless_of_element_order() {
+    Node actual = new Node("Yoda");
+    actual.children = newLinkedHashSet(new Node("Luke"), new Node("Leia"), new Node("Han"));
+    Node other = new Node("Yoda");
+    other.children = newLinkedHashSet(new Node("Han"), new Node("Luke"), new Node("Leia"));
+    assertThat(determineDifferences(actual, other)).isEmpty();
+    other.children = newLinkedHashSet(new Node("Han"), new Node("Luke"), new Node("Chewie"));
+    List<Difference> differences = determineDifferences(actual, other);
+    assertThat(differences).hasSize(1);
+    assertThat(differences.get(0).getPath()).isEqualTo("children");
+  }
+
+  @Test
+  public void should_compare_maps_by_key() {
+    Map<Node, Node> actual = new HashMap<Node, Node>();
+    actual.put(new Node("Luke"), new Node("Yoda"));
+    actual.put(new Node("Leia"), new Node("Han"));
+    Map<Node, Node> other = new HashMap<Node, Node>();
+    other.put(new Node("Leia"), new Node("Han"));
+    other.put(new Node("Luke"), new Node("Obiwan"));
+    List<Difference> differences = determineDifferences(actual, other);
+    assertThat(differences).hasSize(1);
+    assertThat(differences.get(0).getPath()).isEqualTo("[Luke].name");
+  }
+
+  @Test
+  public void should_compare_long_chains_without_overflowing_the_stack() {
+    Node actual = chainOf(100000);
+    Node other = chainOf(100000);
+    assertThat(determineDifferences(actual, other)).isEmpty();
+    Node last = other;
+    while (last.next != null) {
+      last = last.next;
+    }
+    last.name = "Yoda";
+    assertThat(determineDifferences(actual, other)).hasSize(1);
+  }
+
+  @Test
+  public void should_compare_large_sets_of_objects_referencing_other_objects() {
+    Set<Order> actual = new HashSet<Order>();
+    Set<Order> other = new HashSet<Order>();
+    for (int i = 0; i < 10000; i++) {
+      String customer = "customer " + (i % 100);
+      actual.add(new Order(new Customer(customer), newArrayList(new Item("item " + i), new Item("item " + (i + 1)))));
+      other.add(new Order(new Customer(customer), newArrayList(new Item("item " + i), new Item("item " + (i + 1)))));
+    }
+    // each order only differs from the others by its items, elements must not all be compared to each other
+    assertThat(determineDifferences(actual, other)).isEmpty();
+    other.add(new Order(new Customer("customer 0"), newArrayList(new Item("item 0"))));
+    actual.add(new Order(new Customer("customer 0"), newArrayList(new Item("item 1"))));
+    assertThat(determineDifferences(actual, other)).hasSize(1);
+  }
+
+  private static Node chainOf(int length) {
+    Node first = new Node("0");
+    Node node = first;
+    for (int i = 1; i < length; i++) {
+      node.next = new Node(String.valueOf(i));
+      node = node.next;
+    }
+    return first;
+  }
+
+  // do not override equals
+  public static class Order {
+
+    public Customer customer;
+    public List<Item> items;
+
+    Order(Customer customer, List<Item> items) {
+      this.customer = customer;
+      this.items = items;
+    }
+  }
+
+  public static class Customer {
+
+    public String name;
+
+    Customer(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class Item {
+
+    public String name;
+
+    Item(String name) {
+      this.name = name;
+    }
+  }
+
+  // does not override equals
+  public static class Node {
+
+    public String name;
+    public Node next;
+    public Iterable<Node> children;
+
+    Node(String name) {
+      this.name = name;
+    }
+
+    Node(String name, Node next) {
+      this.name = name;
+      this.next = next;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+}
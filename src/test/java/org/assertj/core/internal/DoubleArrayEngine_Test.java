@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.NaN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link DoubleArrayEngine}, elements being compared as {@link Double#equals(Object)} and
+ * {@link Double#compareTo(Double)} do.
+ */
+public class DoubleArrayEngine_Test {
+
+  private final PrimitiveArrayEngine engine = PrimitiveArrayEngine.engineFor(new double[0]);
+
+  @Test
+  public void should_tell_which_values_are_contained_when_array_is_the_smallest_group() {
+    boolean[] contained = engine.contained(new double[] { 6.0, NaN }, new double[] { NaN, 8.0, 6.0, 6.0 });
+    assertThat(contained).containsExactly(true, false, true, true);
+  }
+
+  @Test
+  public void should_tell_which_values_are_contained_when_values_are_the_smallest_group() {
+    boolean[] contained = engine.contained(new double[] { 6.0, 8.0, 10.0, 0.0 }, new double[] { -0.0, 10.0 });
+    assertThat(contained).containsExactly(false, true);
+  }
+
+  @Test
+  public void should_find_sequence_after_partial_matches() {
+    double[] array = { 1.0, 1.0, 2.0, 1.0, 1.0, 1.0, 2.0, 3.0 };
+    assertThat(engine.containsSequence(array, new double[] { 1.0, 1.0, 2.0, 3.0 })).isTrue();
+    assertThat(engine.containsSequence(array, new double[] { 1.0, 2.0, 2.0 })).isFalse();
+  }
+
+  @Test
+  public void should_consider_NaN_values_as_duplicates_but_not_zero_and_negative_zero() {
+    assertThat(engine.hasDuplicates(new double[] { NaN, 1.0, NaN })).isTrue();
+    assertThat(engine.hasDuplicates(new double[] { 0.0, 1.0, -0.0 })).isFalse();
+  }
+
+  @Test
+  public void should_return_index_of_first_unsorted_element() {
+    assertThat(engine.indexOfFirstUnsortedElement(new double[] { -0.0, 0.0, 1.0, NaN })).isEqualTo(-1);
+    assertThat(engine.indexOfFirstUnsortedElement(new double[] { 1.0, 2.0, 0.0, -1.0 })).isEqualTo(1);
+    assertThat(engine.indexOfFirstUnsortedElement(new double[] { 0.0, -0.0 })).isEqualTo(0);
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link DoubleHashSet}, values being the same as for {@link Double#compare(double, double)}.
+ */
+public class DoubleHashSet_Test {
+
+  @Test
+  public void should_consider_all_NaN_values_the_same() {
+    DoubleHashSet set = new DoubleHashSet(2);
+    assertThat(set.add(Double.NaN)).isTrue();
+    assertThat(set.add(Double.longBitsToDouble(0x7ff8000000000001L))).isFalse();
+    assertThat(set.contains(0.0 / 0.0)).isTrue();
+  }
+
+  @Test
+  public void should_consider_zero_and_negative_zero_different() {
+    DoubleHashSet set = new DoubleHashSet(2);
+    assertThat(set.add(0.0)).isTrue();
+    assertThat(set.contains(-0.0)).isFalse();
+    assertThat(set.add(-0.0)).isTrue();
+    assertThat(set.size()).isEqualTo(2);
+  }
+
+}
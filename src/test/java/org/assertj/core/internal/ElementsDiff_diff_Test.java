@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.ElementsDiff.diff;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.assertj.core.internal.ElementsDiff.Hunk;
+import org.assertj.core.internal.ElementsDiff.Line;
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ElementsDiff#diff(List, List, ComparisonStrategy)}</code>.
+ */
+public class ElementsDiff_diff_Test {
+
+  private static final ComparisonStrategy STANDARD = StandardComparisonStrategy.instance();
+
+  @Test
+  public void should_find_no_hunks_in_equal_lists() {
+    assertThat(diff(newArrayList(1, 2, 3), newArrayList(1, 2, 3), STANDARD)).isEmpty();
+  }
+
+  @Test
+  public void should_group_changes_with_their_context_in_hunks() {
+    List<Hunk> hunks = diff(newArrayList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), newArrayList(2, 3, 4, 5, 6, 7, 0, 8, 9, 10),
+                            STANDARD);
+    assertThat(hunks).hasSize(2);
+    assertThat(hunks.get(0).getActualIndex()).isEqualTo(0);
+    assertThat(hunks.get(0).getExpectedIndex()).isEqualTo(0);
+    assertThat(render(hunks.get(0))).isEqualTo("+1  2  3");
+    assertThat(hunks.get(1).getActualIndex()).isEqualTo(5);
+    assertThat(hunks.get(1).getExpectedIndex()).isEqualTo(4);
+    assertThat(render(hunks.get(1))).isEqualTo(" 6  7 -0  8  9");
+  }
+
+  @Test
+  public void should_merge_changes_close_to_each_other_in_one_hunk() {
+    List<Hunk> hunks = diff(newArrayList(1, 2, 3, 4, 5, 6), newArrayList(1, 0, 3, 4, 0, 6), STANDARD);
+    assertThat(hunks).hasSize(1);
+    assertThat(render(hunks.get(0))).isEqualTo(" 1 +2 -0  3  4 +5 -0  6");
+  }
+
+  @Test
+  public void should_compare_elements_according_to_comparison_strategy() {
+    ComparisonStrategy caseInsensitive = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    assertThat(diff(newArrayList("Luke", "Yoda"), newArrayList("LUKE", "yoda"), caseInsensitive)).isEmpty();
+  }
+
+  @Test
+  public void should_diff_large_lists_with_a_few_changes() {
+    List<Integer> actual = new ArrayList<Integer>();
+    for (int i = 0; i < 1000000; i++) {
+      actual.add(i);
+    }
+    List<Integer> expected = new ArrayList<Integer>(actual);
+    expected.remove(1000);
+    expected.set(500000, -1);
+    List<Hunk> hunks = diff(actual, expected, STANDARD);
+    assertThat(hunks).hasSize(2);
+    assertThat(render(hunks.get(1))).isEqualTo(" 499999  500000 +500001 --1  500002  500003");
+  }
+
+  @Test
+  public void should_not_diff_lists_with_too_many_changes() {
+    List<Integer> actual = new ArrayList<Integer>();
+    for (int i = 0; i < 10000; i++) {
+      actual.add(i);
+    }
+    List<Integer> expected = new ArrayList<Integer>(actual);
+    Collections.reverse(expected);
+    assertThat(diff(actual, expected, STANDARD)).isNull();
+  }
+
+  private static String render(Hunk hunk) {
+    StringBuilder rendered = new StringBuilder();
+    for (Line line : hunk.getLines()) {
+      if (rendered.length() > 0) rendered.append(' ');
+      switch (line.getKind()) {
+      case MISSING:
+        rendered.append('-');
+        break;
+      case UNEXPECTED:
+        rendered.append('+');
+        break;
+      default:
+        rendered.append(' ');
+      }
+      rendered.append(line.getElement());
+    }
+    return rendered.toString();
+  }
+
+}
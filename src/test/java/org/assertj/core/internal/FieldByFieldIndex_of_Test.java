@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import org.assertj.core.test.Jedi;
+import org.assertj.core.test.Person;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FieldByFieldIndex#of(Object[], FieldByFieldComparator)}.
+ */
+public class FieldByFieldIndex_of_Test {
+
+  private final Jedi yoda = new Jedi("Yoda", "Green");
+  private final Jedi luke = new Jedi("Luke", "Green");
+
+  @Test
+  public void should_index_distinct_elements_according_to_compared_fields() {
+    FieldByFieldIndex index = FieldByFieldIndex.of(array(yoda, luke, new Jedi("Yoda", "Green"), null),
+                                                   new FieldByFieldComparator());
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.contains(new Jedi("Luke", "Green"))).isTrue();
+    assertThat(index.contains(new Jedi("Luke", "Blue"))).isFalse();
+    assertThat(index.contains(null)).isTrue();
+    // first of equal elements is kept
+    assertThat(index.get(index.indexOf(new Jedi("Yoda", "Green")))).isSameAs(yoda);
+  }
+
+  @Test
+  public void should_index_elements_according_to_compared_fields_only() {
+    FieldByFieldIndex index = FieldByFieldIndex.of(array(yoda, luke), new IgnoringFieldsComparator("name"));
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.contains(new Jedi("Leia", "Green"))).isTrue();
+    index = FieldByFieldIndex.of(array(yoda, luke), new OnFieldsComparator("name"));
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.contains(new Jedi("Luke", "Blue"))).isTrue();
+  }
+
+  @Test
+  public void should_compare_values_of_other_classes_to_each_element() {
+    FieldByFieldIndex index = FieldByFieldIndex.of(array(yoda, luke), new OnFieldsComparator("name"));
+    assertThat(index.contains(new Person("Luke"))).isTrue();
+    assertThat(index.contains(new Person("Leia"))).isFalse();
+  }
+
+  @Test
+  public void should_return_null_if_elements_are_not_of_the_same_class() {
+    assertThat(FieldByFieldIndex.of(array(yoda, new Person("Luke")), new FieldByFieldComparator())).isNull();
+  }
+
+  @Test
+  public void should_return_null_for_subclasses_of_field_by_field_comparators() {
+    FieldByFieldComparator byName = new FieldByFieldComparator() {
+      @Override
+      protected boolean areEqual(Object actual, Object other) {
+        return ((Jedi) actual).getName().equals(((Jedi) other).getName());
+      }
+    };
+    assertThat(FieldByFieldIndex.of(array(yoda, luke), byName)).isNull();
+    assertThat(newArrayList(luke)).usingElementComparator(byName).containsOnly(new Jedi("Luke", "Blue"));
+  }
+
+  @Test
+  public void should_return_duplicates_in_the_order_they_are_found() {
+    Jedi otherLuke = new Jedi("Luke", "Green");
+    Object[] elements = array(yoda, luke, null, otherLuke, new Jedi("Luke", "Green"), null);
+    assertThat(FieldByFieldIndex.duplicatesFrom(elements, new FieldByFieldComparator())).containsExactly(otherLuke,
+                                                                                                          null);
+  }
+
+}
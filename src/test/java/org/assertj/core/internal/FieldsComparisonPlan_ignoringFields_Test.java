@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ExpectedException.none;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.ExpectedException;
+import org.assertj.core.test.Jedi;
+import org.assertj.core.test.Name;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FieldsComparisonPlan#ignoringFields(Object, String...)}</code>.
+ */
+public class FieldsComparisonPlan_ignoringFields_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_compare_readable_fields_including_inherited_ones() {
+    FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(new Jedi("Yoda", "Green"));
+    // strangeNotReadablePrivateField has no public getter
+    assertThat(plan.size()).isEqualTo(2);
+    assertThat(plan.name(0)).isEqualTo("lightSaberColor");
+    assertThat(plan.name(1)).isEqualTo("name");
+    assertThat(plan.valueOf(0, new Jedi("Luke", "Blue"))).isEqualTo("Blue");
+    assertThat(plan.valueOf(1, new Jedi("Luke", "Blue"))).isEqualTo("Luke");
+  }
+
+  @Test
+  public void should_not_compare_ignored_fields() {
+    FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(new Employee(), "id", "name", "surname");
+    assertThat(plan.size()).isEqualTo(1);
+    assertThat(plan.name(0)).isEqualTo("age");
+    assertThat(plan.valueOf(0, new Employee(1L, new Name("Yoda"), 800))).isEqualTo(800);
+  }
+
+  @Test
+  public void should_reuse_plan_of_class_for_same_ignored_fields() {
+    String[] ignoredFields = { "name" };
+    FieldsComparisonPlan plan = FieldsComparisonPlan.ignoringFields(new Jedi("Yoda", "Green"), ignoredFields);
+    ignoredFields[0] = "lightSaberColor";
+    assertThat(FieldsComparisonPlan.ignoringFields(new Jedi("Luke", "Blue"), "name")).isSameAs(plan);
+    assertThat(FieldsComparisonPlan.ignoringFields(new Jedi("Luke", "Blue"), ignoredFields)).isNotSameAs(plan);
+  }
+
+  @Test
+  public void should_fail_if_ignored_fields_are_not_defined() {
+    thrown.expectIllegalArgumentException("Fields to ignore <[age]> not defined for type <org.assertj.core.test.Jedi>");
+    FieldsComparisonPlan.ignoringFields(new Jedi("Yoda", "Green"), "name", "age");
+  }
+
+}
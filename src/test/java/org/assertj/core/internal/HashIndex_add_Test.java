@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link HashIndex#add(Object)} and {@link HashIndex#indexOf(Object)}.
+ */
+public class HashIndex_add_Test {
+
+  @Test
+  public void should_only_add_distinct_elements() {
+    HashIndex index = new HashIndex(0);
+    assertThat(index.add("Frodo")).isTrue();
+    assertThat(index.add(null)).isTrue();
+    assertThat(index.add("Frodo")).isFalse();
+    assertThat(index.add(null)).isFalse();
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_give_insertion_rank_as_id() {
+    HashIndex index = new HashIndex(0);
+    index.add("Sam");
+    index.add("Frodo");
+    assertThat(index.indexOf("Frodo")).isEqualTo(1);
+    assertThat(index.get(1)).isEqualTo("Frodo");
+    assertThat(index.indexOf("Sauron")).isEqualTo(HashIndex.NOT_FOUND);
+  }
+
+  @Test
+  public void should_keep_elements_when_growing() {
+    HashIndex index = new HashIndex(0);
+    for (int i = 0; i < 1000; i++) {
+      index.add(i);
+    }
+    assertThat(index.size()).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(index.indexOf(i)).isEqualTo(i);
+    }
+    assertThat(index.contains(1000)).isFalse();
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link HashIndex#contained(Iterable, Object[])}.
+ */
+public class HashIndex_contained_Test {
+
+  @Test
+  public void should_tell_which_values_are_contained_when_iterable_is_the_smallest_group() {
+    List<String> iterable = newArrayList("Sam", null, "Frodo");
+    boolean[] contained = HashIndex.contained(iterable, array("Frodo", "Sauron", null, "Frodo", "Sam"));
+    assertThat(contained).containsExactly(true, false, true, true, true);
+  }
+
+  @Test
+  public void should_tell_which_values_are_contained_when_values_are_the_smallest_group() {
+    List<String> iterable = newArrayList("Sam", "Merry", null, "Frodo", "Pippin");
+    boolean[] contained = HashIndex.contained(iterable, array("Sauron", "Frodo", "Frodo"));
+    assertThat(contained).containsExactly(false, true, true);
+  }
+
+  @Test
+  public void should_compare_arrays_by_content() {
+    List<Object> iterable = newArrayList((Object) new int[] { 1, 2 }, new String[] { "Frodo" });
+    boolean[] contained = HashIndex.contained(iterable, array(new Integer[] { 1, 2 }, new String[] { "Frodo" },
+                                                              new String[] { "Sam" }));
+    assertThat(contained).containsExactly(true, true, false);
+  }
+
+}
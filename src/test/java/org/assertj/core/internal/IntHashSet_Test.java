@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntHashSet}.
+ */
+public class IntHashSet_Test {
+
+  @Test
+  public void should_add_values_only_once() {
+    IntHashSet set = new IntHashSet(0);
+    assertThat(set.add(0)).isTrue();
+    assertThat(set.add(-7)).isTrue();
+    assertThat(set.add(0)).isFalse();
+    assertThat(set.add(-7)).isFalse();
+    assertThat(set.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_contain_added_values_after_growing() {
+    IntHashSet set = new IntHashSet(0);
+    for (int i = -500; i < 500; i += 2) {
+      set.add(i * 1024);
+    }
+    assertThat(set.size()).isEqualTo(500);
+    for (int i = -500; i < 500; i++) {
+      assertThat(set.contains(i * 1024)).isEqualTo(i % 2 == 0);
+    }
+  }
+
+}
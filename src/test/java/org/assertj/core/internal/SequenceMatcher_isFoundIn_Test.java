@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SequenceMatcher#isFoundIn(Iterable)}.
+ */
+public class SequenceMatcher_isFoundIn_Test {
+
+  private final ComparisonStrategy standard = StandardComparisonStrategy.instance();
+
+  @Test
+  public void should_find_sequence_after_a_partial_match() {
+    SequenceMatcher matcher = new SequenceMatcher(array("a", "a", "b"), standard);
+    assertThat(matcher.isFoundIn(newArrayList("a", "a", "a", "b"))).isTrue();
+  }
+
+  @Test
+  public void should_find_sequence_overlapping_itself() {
+    SequenceMatcher matcher = new SequenceMatcher(array("a", "b", "a", "b", "c"), standard);
+    assertThat(matcher.isFoundIn(newArrayList("a", "b", "a", "b", "a", "b", "c"))).isTrue();
+    assertThat(matcher.isFoundIn(newArrayList("a", "b", "a", "b", "a", "b"))).isFalse();
+  }
+
+  @Test
+  public void should_find_sequence_with_null_elements() {
+    SequenceMatcher matcher = new SequenceMatcher(array("Luke", null), standard);
+    assertThat(matcher.isFoundIn(newArrayList("Yoda", "Luke", null, "Leia"))).isTrue();
+    assertThat(matcher.isFoundIn(newArrayList(null, "Luke", "Leia"))).isFalse();
+  }
+
+  @Test
+  public void should_find_sequence_according_to_comparison_strategy() {
+    ComparisonStrategy caseInsensitive = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    SequenceMatcher matcher = new SequenceMatcher(array("LUKE", "leia"), caseInsensitive);
+    assertThat(matcher.isFoundIn(newArrayList("Yoda", "Luke", "Leia"))).isTrue();
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
+
+import java.util.Comparator;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SortedIndex#of(Object[], Comparator)}.
+ */
+public class SortedIndex_of_Test {
+
+  @Test
+  public void should_index_distinct_elements_according_to_comparator() {
+    SortedIndex index = SortedIndex.of(array("Luke", "Yoda", "LUKE", null, "Leia"), CaseInsensitiveStringComparator.instance);
+    assertThat(index.size()).isEqualTo(4);
+    assertThat(index.contains("yoda")).isTrue();
+    assertThat(index.contains(null)).isTrue();
+    assertThat(index.contains("Han")).isFalse();
+    // first of equal elements is kept
+    assertThat(index.get(index.indexOf("luke"))).isEqualTo("Luke");
+    assertThat(index.get(index.indexOf(null))).isNull();
+  }
+
+  @Test
+  public void should_return_null_if_comparator_does_not_define_an_order() {
+    Comparator<Object> equalityOnlyComparator = new Comparator<Object>() {
+      @Override
+      public int compare(Object o1, Object o2) {
+        return o1.equals(o2) ? 0 : -1;
+      }
+    };
+    assertThat(SortedIndex.of(array("Luke", "Yoda", "Leia"), equalityOnlyComparator)).isNull();
+  }
+
+  @Test
+  public void should_return_null_if_elements_are_not_mutually_comparable() {
+    Comparator<String> stringComparator = CaseInsensitiveStringComparator.instance;
+    assertThat(SortedIndex.of(array((Object) "Luke", 1, "Leia"), stringComparator)).isNull();
+  }
+
+}
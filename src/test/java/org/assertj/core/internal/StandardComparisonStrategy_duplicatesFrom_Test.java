@@ -57,6 +57,22 @@ public class StandardComparisonStrategy_duplicatesFrom_Test extends AbstractTest
     assertEquals(3, sizeOf(duplicates));
   }
 
+  @Test
+  public void should_return_existing_duplicates_in_found_order() {
+    List<String> list = newArrayList("Merry", "Frodo", "Sam", "Frodo", "Merry", "Frodo");
+    Iterable<?> duplicates = standardComparisonStrategy.duplicatesFrom(list);
+    assertEquals(newArrayList("Frodo", "Merry"), newArrayList(duplicates));
+  }
+
+  @Test
+  public void should_return_existing_duplicates_of_primitive_arrays() {
+    List<Object> list = newArrayList((Object) new int[] { 1 }, new int[] { 2 }, new int[] { 1 }, new Integer[] { 2 });
+    Iterable<?> duplicates = standardComparisonStrategy.duplicatesFrom(list);
+    assertEquals(2, sizeOf(duplicates));
+    assertTrue(standardComparisonStrategy.iterableContains(duplicates, new int[] { 1 }));
+    assertTrue(standardComparisonStrategy.iterableContains(duplicates, new int[] { 2 }));
+  }
+
   @Test
   public void should_not_return_any_duplicates() {
     Iterable<?> duplicates = standardComparisonStrategy.duplicatesFrom(newArrayList("Frodo", "Sam", "Gandalf"));
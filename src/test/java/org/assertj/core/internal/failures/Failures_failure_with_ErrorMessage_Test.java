@@ -16,6 +16,9 @@ package org.assertj.core.internal.failures;
 
 import static junit.framework.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.assertj.core.api.AssertionInfo;
@@ -60,4 +63,26 @@ public class Failures_failure_with_ErrorMessage_Test {
     AssertionError failure = failures.failure(info, errorMessage);
     assertEquals("[description] my message", failure.getMessage());
   }
+
+  @Test
+  public void should_only_create_message_when_it_is_read() {
+    Description description = new TestDescription("description");
+    info.description(description);
+    when(errorMessage.create(description, info.representation())).thenReturn("[description] my message");
+    AssertionError failure = failures.failure(info, errorMessage);
+    verify(errorMessage, never()).create(description, info.representation());
+    assertEquals("[description] my message", failure.getMessage());
+    assertEquals("java.lang.AssertionError: [description] my message", failure.toString());
+    verify(errorMessage, times(1)).create(description, info.representation());
+  }
+
+  @Test
+  public void should_still_create_failure_if_message_cannot_be_created() {
+    IllegalStateException toStringFailure = new IllegalStateException("toString failed");
+    when(errorMessage.create(info.description(), info.representation())).thenThrow(toStringFailure);
+    AssertionError failure = failures.failure(info, errorMessage);
+    assertEquals("The message of the assertion error could not be created: "
+                 + "java.lang.IllegalStateException: toString failed", failure.getMessage());
+    assertEquals(toStringFailure, failure.getSuppressed()[0]);
+  }
 }
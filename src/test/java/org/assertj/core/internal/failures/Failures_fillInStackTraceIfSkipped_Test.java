@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.internal.failures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.Failures;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Failures#fillInStackTraceIfSkipped(Throwable)}</code> and the failures created while they are
+ * collected.
+ */
+public class Failures_fillInStackTraceIfSkipped_Test {
+
+  private final WritableAssertionInfo info = new WritableAssertionInfo();
+  private final ErrorMessageFactory errorMessage = new BasicErrorMessageFactory("my message");
+  private final Failures failures = Failures.instance();
+
+  @After
+  public void tearDown() {
+    failures.setSkipStackTraceOfCollectedFailures(false);
+    failures.setCollectingFailures(false);
+  }
+
+  @Test
+  public void should_skip_stack_trace_of_collected_failures_if_asked_to() {
+    failures.setSkipStackTraceOfCollectedFailures(true);
+    failures.setCollectingFailures(true);
+    AssertionError failure = failures.failure(info, errorMessage);
+    assertThat(failure.getStackTrace()).isEmpty();
+    assertThat(failure.getMessage()).isEqualTo("my message");
+  }
+
+  @Test
+  public void should_fill_in_skipped_stack_trace_when_failure_is_reported() {
+    failures.setSkipStackTraceOfCollectedFailures(true);
+    failures.setCollectingFailures(true);
+    AssertionError failure = failures.failure(info, errorMessage);
+    failures.setCollectingFailures(false);
+    failures.fillInStackTraceIfSkipped(failure);
+    assertThat(failure.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  public void should_fill_in_stack_trace_of_failures_that_are_not_collected() {
+    failures.setSkipStackTraceOfCollectedFailures(true);
+    assertThat(failures.failure(info, errorMessage).getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  public void should_fill_in_stack_trace_of_collected_failures_by_default() {
+    failures.setCollectingFailures(true);
+    assertThat(failures.failure(info, errorMessage).getStackTrace()).isNotEmpty();
+  }
+
+}
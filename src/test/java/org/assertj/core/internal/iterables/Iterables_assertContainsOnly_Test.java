@@ -72,6 +72,12 @@ public class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     iterables.assertContainsOnly(someInfo(), actual, array("Luke", "Luke", "Luke", "Yoda", "Leia"));
   }
 
+  @Test
+  public void should_pass_if_actual_contains_given_array_values_only() {
+    Collection<Object> actual = newArrayList((Object) new int[] { 1, 2 }, new String[] { "Luke" });
+    iterables.assertContainsOnly(someInfo(), actual, array(new String[] { "Luke" }, new int[] { 1, 2 }));
+  }
+
   @Test
   public void should_pass_if_actual_and_given_values_are_empty() {
     actual.clear();
@@ -15,6 +15,7 @@
 package org.assertj.core.internal.objects;
 
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+import static org.assertj.core.error.ShouldBeEqualByteArrays.shouldBeEqualByteArrays;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
 import static org.mockito.Mockito.verify;
@@ -68,6 +69,20 @@ public class Objects_assertEqual_Test extends ObjectsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_fail_reporting_first_difference_if_large_byte_arrays_are_not_equal() {
+    AssertionInfo info = someInfo();
+    byte[] actual = new byte[1024];
+    byte[] expected = new byte[1024];
+    expected[512] = 1;
+    try {
+      objects.assertEqual(info, actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeEqualByteArrays(actual, expected));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
 
   @Test
   public void should_fail_with_my_exception_if_compared_with_null() {
@@ -43,6 +43,17 @@ public class Objects_hashCodeFor_Test {
     assertEquals(java.util.Arrays.deepHashCode(intArray), Objects.hashCodeFor(intArray));
   }
 
+  @Test
+  public void should_return_Arrays_hashCode_of_given_primitive_array() {
+    assertEquals(java.util.Arrays.hashCode(new int[] { 5, 6 }), Objects.hashCodeFor(new int[] { 5, 6 }));
+    assertEquals(java.util.Arrays.hashCode(new double[] { 5.0 }), Objects.hashCodeFor(new double[] { 5.0 }));
+  }
+
+  @Test
+  public void should_return_same_hashCode_for_primitive_array_and_equal_array_of_wrappers() {
+    assertEquals(Objects.hashCodeFor(new Integer[] { 5, 6 }), Objects.hashCodeFor(new int[] { 5, 6 }));
+  }
+
   @Test
   public void should_return_zero_if_Object_is_null() {
     assertEquals(0, Objects.hashCodeFor(null));
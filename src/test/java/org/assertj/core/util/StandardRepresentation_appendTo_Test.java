@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.presentation.BinaryRepresentation;
+import org.assertj.core.presentation.HexadecimalRepresentation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.presentation.StreamingRepresentation;
+import org.assertj.core.presentation.UnicodeRepresentation;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StreamingRepresentation#appendTo(Appendable, Object)}.
+ */
+public class StandardRepresentation_appendTo_Test {
+
+  private final StandardRepresentation representation = new StandardRepresentation();
+
+  @After
+  public void restoreDefaultLimits() {
+    StandardRepresentation.setMaxLengthForPrinting(1000000);
+  }
+
+  @Test
+  public void should_append_nested_containers_like_toStringOf() throws IOException {
+    Map<String, Object> map = new LinkedHashMap<String, Object>();
+    map.put("Luke", array(1, 2L));
+    List<Object> list = newArrayList(map, tuple("Yoda", 'c'), new int[] { 3 }, null);
+    StringBuilder buffer = new StringBuilder("actual: ");
+    representation.appendTo(buffer, list);
+    assertThat(buffer.toString()).isEqualTo("actual: " + representation.toStringOf(list))
+                                 .isEqualTo("actual: [{\"Luke\"=[1, 2L]}, (\"Yoda\", 'c'), [3], null]");
+  }
+
+  @Test
+  public void should_append_to_any_appendable() throws IOException {
+    StringWriter writer = new StringWriter();
+    representation.appendTo(writer, newArrayList("Luke", newArrayList(1.0f)));
+    representation.appendTo(writer, null);
+    representation.appendTo(writer, "Yoda");
+    assertThat(writer.toString()).isEqualTo("[\"Luke\", [1.0f]]null\"Yoda\"");
+  }
+
+  @Test
+  public void should_append_within_the_limits() throws IOException {
+    StandardRepresentation.setMaxLengthForPrinting(10);
+    StringBuilder buffer = new StringBuilder();
+    representation.appendTo(buffer, newArrayList(newArrayList("abcdefghijkl"), "mno"));
+    assertThat(buffer.toString()).isEqualTo("[[\"abcdefghi...]]");
+  }
+
+  @Test
+  public void should_append_containers_with_toStringOf_of_subclasses() throws IOException {
+    StandardRepresentation setCounting = new StandardRepresentation() {
+      @Override
+      public String toStringOf(Object object) {
+        return object instanceof Set ? "SET(" + ((Set<?>) object).size() + ")" : super.toStringOf(object);
+      }
+    };
+    List<Object> list = newArrayList((Object) newLinkedHashSet(1, 2), "x");
+    StringBuilder buffer = new StringBuilder();
+    setCounting.appendTo(buffer, list);
+    assertThat(buffer.toString()).isEqualTo("[SET(2), \"x\"]");
+    assertThat(setCounting.toStringOf(list)).isEqualTo("[SET(2), \"x\"]");
+  }
+
+  @Test
+  public void should_append_like_toStringOf_with_other_representations() throws IOException {
+    List<Object> list = newArrayList((Object) newArrayList((byte) 1, 'a'), "é");
+    for (StreamingRepresentation other : array(new HexadecimalRepresentation(), new BinaryRepresentation(),
+                                               new UnicodeRepresentation())) {
+      StringBuilder buffer = new StringBuilder();
+      other.appendTo(buffer, list);
+      assertThat(buffer.toString()).isEqualTo(other.toStringOf(list));
+    }
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StandardRepresentation#toStringOf(Object)} with limits on the written containers.
+ */
+public class StandardRepresentation_toStringOf_with_limits_Test {
+
+  private final StandardRepresentation representation = new StandardRepresentation();
+
+  @After
+  public void restoreDefaultLimits() {
+    StandardRepresentation.setMaxElementsForPrinting(1000);
+    StandardRepresentation.setMaxDepthForPrinting(100);
+    StandardRepresentation.setMaxLengthForPrinting(1000000);
+  }
+
+  @Test
+  public void should_only_write_first_and_last_elements_of_large_containers() {
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    List<Integer> list = new ArrayList<Integer>();
+    Map<Integer, Integer> map = new LinkedHashMap<Integer, Integer>();
+    for (int i = 1; i <= 10; i++) {
+      list.add(i);
+      map.put(i, i);
+    }
+    assertThat(representation.toStringOf(list)).isEqualTo("[1, 2, ... 6 more elements ..., 9, 10]");
+    assertThat(representation.toStringOf(list.toArray())).isEqualTo("[1, 2, ... 6 more elements ..., 9, 10]");
+    assertThat(representation.toStringOf(new int[] { 1, 2, 3, 4, 5 })).isEqualTo("[1, 2, ... 1 more elements ..., 4, 5]");
+    assertThat(representation.toStringOf(map)).isEqualTo("{1=1, 2=2, ... 6 more entries ..., 9=9, 10=10}");
+  }
+
+  @Test
+  public void should_write_all_elements_of_containers_within_the_limit() {
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    assertThat(representation.toStringOf(newArrayList(1, 2, 3, 4))).isEqualTo("[1, 2, 3, 4]");
+  }
+
+  @Test
+  public void should_leave_out_elements_of_containers_nested_too_deep() {
+    StandardRepresentation.setMaxDepthForPrinting(2);
+    Object[] array = array(1, array(2, array(3)), newArrayList(4, newArrayList(5)));
+    assertThat(representation.toStringOf(array)).isEqualTo("[1, [2, [...]], [4, [...]]]");
+  }
+
+  @Test
+  public void should_stop_writing_containers_once_the_maximum_length_is_reached() {
+    StandardRepresentation.setMaxLengthForPrinting(10);
+    assertThat(representation.toStringOf(newArrayList("abc", "def", "ghi"))).isEqualTo("[\"abc\", \"de...]");
+    assertThat(representation.toStringOf(newArrayList(newArrayList("abcdefghijkl"), "mno"))).isEqualTo("[[\"abcdefghi...]]");
+    assertThat(representation.toStringOf(newArrayList("abc", "d", "e"))).isEqualTo("[\"abc\", \"d\", ...]");
+  }
+
+  @Test
+  public void should_not_write_omitted_elements() {
+    StandardRepresentation.setMaxElementsForPrinting(2);
+    List<Object> list = newArrayList((Object) 1, new Object() {
+      @Override
+      public String toString() {
+        throw new IllegalStateException("should not be written");
+      }
+    }, 3);
+    assertThat(representation.toStringOf(list)).isEqualTo("[1, ... 1 more elements ..., 3]");
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.presentation.TypeFormatter;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StandardRepresentation#toStringOf(Object)} with formatters registered for some types.
+ */
+public class StandardRepresentation_toStringOf_with_registered_formatters_Test {
+
+  private final StandardRepresentation representation = new StandardRepresentation();
+
+  @After
+  public void removeFormatters() {
+    StandardRepresentation.removeFormatter(Jedi.class);
+    StandardRepresentation.removeFormatter(Master.class);
+    StandardRepresentation.removeFormatter(String.class);
+  }
+
+  @Test
+  public void should_format_objects_of_registered_type_and_subtypes_with_registered_formatter() {
+    assertThat(representation.toStringOf(new Jedi("Luke"))).isEqualTo("Jedi Luke");
+    StandardRepresentation.registerFormatter(Jedi.class, new JediFormatter("Jedi "));
+    assertThat(representation.toStringOf(new Jedi("Luke"))).isEqualTo("<Jedi Luke>");
+    assertThat(representation.toStringOf(new Master("Yoda"))).isEqualTo("<Jedi Yoda>");
+    assertThat(representation.toStringOf(newArrayList(new Jedi("Luke"), new Master("Yoda"))))
+        .isEqualTo("[<Jedi Luke>, <Jedi Yoda>]");
+  }
+
+  @Test
+  public void should_use_formatter_registered_last() {
+    StandardRepresentation.registerFormatter(Jedi.class, new JediFormatter("Jedi "));
+    StandardRepresentation.registerFormatter(Master.class, new JediFormatter("Master "));
+    StandardRepresentation.registerFormatter(Jedi.class, new JediFormatter("Padawan "));
+    assertThat(representation.toStringOf(new Jedi("Luke"))).isEqualTo("<Padawan Luke>");
+    assertThat(representation.toStringOf(new Master("Yoda"))).isEqualTo("<Padawan Yoda>");
+  }
+
+  @Test
+  public void should_use_registered_formatter_instead_of_standard_one() {
+    StandardRepresentation.registerFormatter(String.class, new TypeFormatter<Object>() {
+      @Override
+      public String format(Object object, Representation representation) {
+        return "'" + object + "'";
+      }
+    });
+    assertThat(representation.toStringOf(newArrayList("Luke", 'c'))).isEqualTo("['Luke', 'c']");
+  }
+
+  @Test
+  public void should_use_standard_formatter_once_registered_formatter_is_removed() {
+    StandardRepresentation.registerFormatter(Jedi.class, new JediFormatter("Jedi "));
+    StandardRepresentation.removeFormatter(Jedi.class);
+    assertThat(representation.toStringOf(new Master("Yoda"))).isEqualTo("Jedi Yoda");
+  }
+
+  private static class Jedi {
+
+    private final String name;
+
+    private Jedi(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return "Jedi " + name;
+    }
+  }
+
+  private static class Master extends Jedi {
+
+    private Master(String name) {
+      super(name);
+    }
+  }
+
+  private static class JediFormatter implements TypeFormatter<Jedi> {
+
+    private final String title;
+
+    private JediFormatter(String title) {
+      this.title = title;
+    }
+
+    @Override
+    public String format(Jedi jedi, Representation representation) {
+      return "<" + title + jedi.name + ">";
+    }
+  }
+
+}
@@ -14,6 +14,7 @@
  */
 package org.assertj.core.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -36,6 +37,26 @@ public class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  public void should_keep_other_elements_in_order_and_remove_reflective_construction_by_AssertJ() {
+    Throwable throwable = new Throwable();
+    StackTraceElement newInstance = element("java.lang.reflect.Constructor", "newInstance");
+    StackTraceElement main = element("examples.Example", "main");
+    StackTraceElement run = element("examples.Example", "run");
+    StackTraceElement newInstance0 = element("sun.reflect.NativeConstructorAccessorImpl", "newInstance0");
+    StackTraceElement newComparisonFailure = element("org.assertj.core.error.ComparisonFailureFactory",
+                                                      "newComparisonFailure");
+    StackTraceElement isEqualTo = element("org.assertj.core.api.AbstractAssert", "isEqualTo");
+    throwable.setStackTrace(new StackTraceElement[] { newInstance0, newInstance, newComparisonFailure, isEqualTo, main,
+        newInstance, run });
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    assertArrayEquals(new StackTraceElement[] { newInstance0, main, newInstance, run }, throwable.getStackTrace());
+  }
+
+  private static StackTraceElement element(String className, String methodName) {
+    return new StackTraceElement(className, methodName, null, -1);
+  }
+
   private static boolean hasStackTraceElementContainingAssertJClass(AssertJThrowable throwable) {
     StackTraceElement[] stackTrace = throwable.getStackTrace();
     for (StackTraceElement stackTraceElement : stackTrace) {
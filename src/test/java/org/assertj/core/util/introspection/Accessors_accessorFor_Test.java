@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.introspection.Accessors.accessorFor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Accessors#accessorFor(Method)}</code> and <code>{@link Accessors#accessorFor(Field)}</code>.
+ */
+public class Accessors_accessorFor_Test {
+
+  @Test
+  public void should_read_value_with_getter() throws Exception {
+    Accessor accessor = accessorFor(Jedi.class.getMethod("getName"));
+    assertThat(accessor.read(new Jedi("Yoda"))).isEqualTo("Yoda");
+  }
+
+  @Test
+  public void should_compile_getter_only_once() throws Exception {
+    Accessor accessor = accessorFor(Jedi.class.getMethod("getName"));
+    assertThat(accessorFor(Jedi.class.getMethod("getName"))).isSameAs(accessor);
+  }
+
+  @Test
+  public void should_report_getter_exception_as_cause_of_InvocationTargetException() throws Exception {
+    try {
+      accessorFor(Jedi.class.getMethod("getSide")).read(new Jedi("Yoda"));
+    } catch (InvocationTargetException e) {
+      assertThat(e.getCause()).isInstanceOf(UnsupportedOperationException.class).hasMessage("no side");
+      return;
+    }
+    throw new AssertionError("expecting an InvocationTargetException to be thrown");
+  }
+
+  @Test
+  public void should_read_accessible_private_field() throws Exception {
+    Field name = Jedi.class.getDeclaredField("name");
+    name.setAccessible(true);
+    assertThat(accessorFor(name).read(new Jedi("Luke"))).isEqualTo("Luke");
+  }
+
+  @Test
+  public void should_read_static_field_ignoring_target() throws Exception {
+    assertThat(accessorFor(Jedi.class.getField("ORDER")).read(new Jedi("Luke"))).isEqualTo("Jedi");
+  }
+
+  public static class Jedi {
+    public static final String ORDER = "Jedi";
+    private final String name;
+
+    Jedi(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getSide() {
+      throw new UnsupportedOperationException("no side");
+    }
+  }
+
+}
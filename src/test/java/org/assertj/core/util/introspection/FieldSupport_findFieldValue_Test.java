@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.introspection.PropertyPath.NOT_FOUND;
+import static org.assertj.core.util.introspection.PropertyPath.compile;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FieldSupport#findFieldValue(PropertyPath, Object)}</code>.
+ */
+public class FieldSupport_findFieldValue_Test {
+
+  private final Employee yoda = new Employee(1L, new Name("Yoda"), 800);
+
+  @Test
+  public void should_return_value_of_field() {
+	assertThat(FieldSupport.instance().findFieldValue(compile("id"), yoda)).isEqualTo(1L);
+  }
+
+  @Test
+  public void should_return_value_of_nested_field() {
+	assertThat(FieldSupport.instance().findFieldValue(compile("name.first"), yoda)).isEqualTo("Yoda");
+  }
+
+  @Test
+  public void should_return_null_if_a_nested_value_is_null() {
+	assertThat(FieldSupport.instance().findFieldValue(compile("surname.first"), yoda)).isNull();
+  }
+
+  @Test
+  public void should_return_NOT_FOUND_if_field_does_not_exist() {
+	assertThat(FieldSupport.instance().findFieldValue(compile("adult"), yoda)).isSameAs(NOT_FOUND);
+	assertThat(FieldSupport.instance().findFieldValue(compile("name.middle"), yoda)).isSameAs(NOT_FOUND);
+  }
+
+  @Test
+  public void should_return_NOT_FOUND_if_field_is_not_public_and_private_fields_can_not_be_read() {
+	PropertyPath age = compile("age");
+	assertThat(FieldSupport.instance().findFieldValue(age, yoda)).isEqualTo(800);
+	assertThat(new FieldSupport(false).findFieldValue(age, yoda)).isSameAs(NOT_FOUND);
+  }
+
+}
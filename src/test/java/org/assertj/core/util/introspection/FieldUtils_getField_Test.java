@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ExpectedException.none;
+
+import java.lang.reflect.Field;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FieldUtils#getField(Class, String, boolean)}</code>.
+ */
+public class FieldUtils_getField_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_resolve_field_only_once() throws Exception {
+    Field field = FieldUtils.getField(Employee.class, "age", true);
+    assertThat(field.getName()).isEqualTo("age");
+    assertThat(field.isAccessible()).isTrue();
+    assertThat(FieldUtils.getField(Employee.class, "age", true)).isSameAs(field);
+  }
+
+  @Test
+  public void should_return_null_if_field_does_not_exist() throws Exception {
+    assertThat(FieldUtils.getField(Employee.class, "unknown", true)).isNull();
+    assertThat(FieldUtils.getField(Employee.class, "unknown", true)).isNull();
+  }
+
+  @Test
+  public void should_fail_if_field_is_not_public_and_access_is_not_forced_even_if_already_made_accessible()
+      throws Exception {
+    FieldUtils.getField(Employee.class, "age", true);
+    thrown.expect(IllegalAccessException.class);
+    FieldUtils.getField(Employee.class, "age", false);
+  }
+
+}
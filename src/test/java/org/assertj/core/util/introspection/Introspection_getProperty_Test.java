@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ExpectedException.none;
+import static org.assertj.core.util.introspection.Introspection.getProperty;
+
+import java.beans.PropertyDescriptor;
+
+import org.assertj.core.test.ExpectedException;
+import org.assertj.core.test.Person;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Introspection#getProperty(String, Object)}</code>.
+ */
+public class Introspection_getProperty_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_return_property_descriptor() {
+    PropertyDescriptor descriptor = getProperty("name", new Person("Yoda"));
+    assertThat(descriptor.getName()).isEqualTo("name");
+    assertThat(descriptor.getReadMethod().getName()).isEqualTo("getName");
+  }
+
+  @Test
+  public void should_introspect_class_only_once() {
+    PropertyDescriptor descriptor = getProperty("name", new Person("Yoda"));
+    assertThat(getProperty("name", new Person("Luke"))).isSameAs(descriptor);
+  }
+
+  @Test
+  public void should_fail_if_property_does_not_exist() {
+    thrown.expect(IntrospectionError.class, "No getter for property 'age' in org.assertj.core.test.Person");
+    getProperty("age", new Person("Yoda"));
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ExpectedException.none;
+
+import org.assertj.core.test.ExpectedException;
+import org.assertj.core.test.Person;
+import org.assertj.core.util.introspection.MethodSupport.MethodCall;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link MethodSupport#compile(String)}</code>.
+ */
+public class MethodSupport_compile_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_invoke_method_on_objects_of_different_classes() {
+    MethodCall toString = MethodSupport.compile("toString");
+    Object[] objects = { "Yoda", 800, 800L, 8.0, 'Y', true, new StringBuilder("Luke") };
+    // twice, the second time with the invokers of the first classes remembered
+    for (int i = 0; i < 2; i++) {
+      for (Object object : objects) {
+        assertThat(toString.resultFor(object)).isEqualTo(object.toString());
+      }
+    }
+  }
+
+  @Test
+  public void should_invoke_methods_from_superclass() {
+    MethodCall getName = MethodSupport.compile("getName");
+    assertThat(getName.resultFor(new Person("Yoda"))).isEqualTo("Yoda");
+    assertThat(getName.resultFor(new Person("Luke") {})).isEqualTo("Luke");
+  }
+
+  @Test
+  public void should_invoke_static_method_ignoring_the_object() {
+    MethodCall name = MethodSupport.compile("name");
+    // twice, the second time with the invoker remembered
+    for (int i = 0; i < 2; i++) {
+      assertThat(name.resultFor(new Jedi())).isEqualTo("Yoda");
+    }
+  }
+
+  @Test
+  public void should_fail_meaningfully_if_method_not_found_in_one_of_the_classes() {
+    MethodCall getName = MethodSupport.compile("getName");
+    getName.resultFor(new Person("Yoda"));
+    thrown.expectIllegalArgumentException("Can't find method 'getName' in class String.class. Make sure public" +
+                                            " method exists and accepts no arguments!");
+    getName.resultFor("Yoda");
+  }
+
+  @Test
+  public void should_fail_meaningfully_if_method_name_is_empty() {
+    thrown.expectIllegalArgumentException("Method name can not be empty!");
+    MethodSupport.compile("");
+  }
+
+  public static class Jedi {
+
+    public static String name() {
+      return "Yoda";
+    }
+  }
+
+}
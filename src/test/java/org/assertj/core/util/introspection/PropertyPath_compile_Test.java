@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2010-2014 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.test.ExpectedException.none;
+import static org.assertj.core.util.introspection.PropertyPath.compile;
+
+import java.beans.PropertyDescriptor;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.ExpectedException;
+import org.assertj.core.test.Name;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link PropertyPath#compile(String)}</code>.
+ */
+public class PropertyPath_compile_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_split_nested_names_into_segments() {
+    assertThat(namesOf(compile("address.street.number"))).containsExactly("address", "street", "number");
+    assertThat(namesOf(compile("name"))).containsExactly("name");
+    assertThat(compile("address.street.number").toString()).isEqualTo("address.street.number");
+  }
+
+  @Test
+  public void should_not_split_names_starting_or_ending_with_a_dot() {
+    assertThat(namesOf(compile(".name"))).containsExactly(".name");
+    assertThat(namesOf(compile("name."))).containsExactly("name.");
+    assertThat(namesOf(compile("name..first"))).containsExactly("name", ".first");
+    assertThat(namesOf(compile("name.first."))).containsExactly("name.first.");
+    assertThat(namesOf(compile("."))).containsExactly(".");
+    assertThat(namesOf(compile(""))).containsExactly("");
+  }
+
+  @Test
+  public void should_resolve_property_once_per_class() {
+    PropertyPath path = compile("name.first");
+    Employee employee = new Employee(1L, new Name("Yoda"), 800);
+    PropertyDescriptor name = path.property(0, employee);
+    assertThat(name.getName()).isEqualTo("name");
+    assertThat(path.property(0, new Employee())).isSameAs(name);
+    assertThat(path.property(1, employee.getName()).getName()).isEqualTo("first");
+  }
+
+  @Test
+  public void should_resolve_property_again_when_applied_to_another_class() {
+    PropertyPath path = compile("name");
+    path.property(0, new Employee());
+    assertThat(path.property(0, Thread.currentThread()).getReadMethod().getDeclaringClass()).isEqualTo(Thread.class);
+  }
+
+  @Test
+  public void should_resolve_field_per_class_and_access() throws Exception {
+    PropertyPath path = compile("age");
+    assertThat(path.field(0, new Employee(), true).getName()).isEqualTo("age");
+    thrown.expect(IllegalAccessException.class);
+    path.field(0, new Employee(), false);
+  }
+
+  private static String[] namesOf(PropertyPath path) {
+    String[] names = new String[path.length()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = path.name(i);
+    }
+    return names;
+  }
+
+}